@@ -1,5 +1,6 @@
 plugins {
     id("org.openrewrite.build.recipe-library") version "latest.release"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "org.openrewrite.recipe"
@@ -24,4 +25,22 @@ dependencies {
     testImplementation("org.junit.jupiter:junit-jupiter-api:latest.release")
     testImplementation("org.junit.jupiter:junit-jupiter-params:latest.release")
     testRuntimeOnly("org.junit.jupiter:junit-jupiter-engine:latest.release")
+
+    jmh("org.openjdk.jmh:jmh-core:latest.release")
+    jmhAnnotationProcessor("org.openjdk.jmh:jmh-generator-annprocess:latest.release")
+}
+
+jmh {
+    // corpora come from the test sources' ManifestGenerator
+    includeTests.set(true)
+    fork.set(1)
+    warmupIterations.set(2)
+    iterations.set(3)
+    // allocation rate (gc.alloc.rate.norm) alongside throughput
+    profilers.add("gc")
+}
+
+tasks.named<JavaCompile>("compileJmhJava") {
+    // reads the test classes, which target a newer release than the main sources
+    options.release.set(17)
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.kubernetes.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Parser;
+import org.openrewrite.SourceFile;
+import org.openrewrite.kubernetes.KubernetesParser;
+import org.openrewrite.yaml.tree.Yaml;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses each corpus, which includes attaching the Kubernetes model to every document, reporting documents
+ * per second alongside the allocation rate measured by the {@code gc} profiler.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class KubernetesParserBenchmark {
+
+    @Param
+    ManifestCorpus corpus;
+
+    List<Parser.Input> inputs;
+
+    @Setup
+    public void setup() {
+        inputs = corpus.generate();
+    }
+
+    @Benchmark
+    public void parse(Documents documents, Blackhole blackhole) {
+        Iterator<SourceFile> sourceFiles = KubernetesParser.builder().build()
+                .parseInputs(inputs, null, new InMemoryExecutionContext())
+                .iterator();
+        while (sourceFiles.hasNext()) {
+            SourceFile sourceFile = sourceFiles.next();
+            if (sourceFile instanceof Yaml.Documents) {
+                documents.documents += ((Yaml.Documents) sourceFile).getDocuments().size();
+            }
+            blackhole.consume(sourceFile);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.kubernetes.benchmarks;
+
+import org.openrewrite.Parser;
+import org.openrewrite.kubernetes.ManifestGenerator;
+
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static org.openrewrite.kubernetes.ManifestGenerator.Kind.*;
+import static org.openrewrite.kubernetes.ManifestGenerator.manifests;
+
+/**
+ * Corpora with the shapes that stress different parts of the recipes, generated by the same
+ * {@link ManifestGenerator} the tests use.
+ */
+public enum ManifestCorpus {
+    /**
+     * Many files with one small document each.
+     */
+    SMALL_DOCUMENTS(manifests()
+            .documents(2000)
+            .kinds(DEPLOYMENT, SERVICE, CONFIG_MAP, ROLE)
+            .containers(1, 1)),
+
+    /**
+     * A few files with a very large CustomResourceDefinition each.
+     */
+    HUGE_CRDS(manifests()
+            .documents(4)
+            .kinds(CUSTOM_RESOURCE_DEFINITION)
+            .nesting(6, 4)),
+
+    /**
+     * Workloads whose pod specs are nested several templates deep, with many labels and containers.
+     */
+    DEEP_POD_TEMPLATES(manifests()
+            .documents(300)
+            .kinds(CRON_JOB)
+            .labels(30, 100)
+            .containers(3, 6)),
+
+    /**
+     * Files with many documents of mixed kinds, like rendered Helm charts.
+     */
+    MULTI_DOCUMENT(manifests()
+            .documents(2000)
+            .documentsPerFile(100)
+            .kinds(DEPLOYMENT, STATEFUL_SET, SERVICE, INGRESS, ROLE, CONFIG_MAP));
+
+    private final ManifestGenerator generator;
+
+    ManifestCorpus(ManifestGenerator generator) {
+        this.generator = generator;
+    }
+
+    List<Parser.Input> generate() {
+        return generator.inputs().collect(toList());
+    }
+}
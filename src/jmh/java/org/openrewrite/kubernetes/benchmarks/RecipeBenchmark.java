@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.kubernetes.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openrewrite.*;
+import org.openrewrite.config.Environment;
+import org.openrewrite.internal.InMemoryLargeSourceSet;
+import org.openrewrite.kubernetes.AddConfiguration;
+import org.openrewrite.kubernetes.ChangeApiVersion;
+import org.openrewrite.kubernetes.KubernetesParser;
+import org.openrewrite.kubernetes.UpdateContainerImageName;
+import org.openrewrite.kubernetes.UpdateContainerImageNames;
+import org.openrewrite.kubernetes.rbac.AddRuleToRole;
+import org.openrewrite.kubernetes.resource.CapResourceValueToMaximum;
+import org.openrewrite.kubernetes.resource.FindExceedsResourceRatio;
+import org.openrewrite.kubernetes.resource.FindExceedsResourceValue;
+import org.openrewrite.kubernetes.search.*;
+import org.openrewrite.kubernetes.services.FindServiceExternalIPs;
+import org.openrewrite.kubernetes.services.FindServicesByType;
+import org.openrewrite.kubernetes.services.UpdateServiceExternalIP;
+import org.openrewrite.yaml.tree.Yaml;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Runs each shipped recipe over each corpus, reporting documents per second alongside the allocation rate
+ * measured by the {@code gc} profiler. Recipes that take options are configured as in their documentation examples.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RecipeBenchmark {
+
+    @Param
+    ManifestCorpus corpus;
+
+    @Param({
+            "AddConfiguration",
+            "AddRuleToRole",
+            "CapResourceValueToMaximum",
+            "ChangeApiVersion",
+            "FindAnnotation",
+            "FindContainerImages",
+            "FindDisallowedImageTags",
+            "FindExceedsResourceRatio",
+            "FindExceedsResourceValue",
+            "FindImage",
+            "FindMissingConfigurations",
+            "FindMissingDigest",
+            "FindMissingOrInvalidAnnotation",
+            "FindMissingOrInvalidLabel",
+            "FindNonTlsIngress",
+            "FindResourceMissingConfiguration",
+            "FindServiceExternalIPs",
+            "FindServicesByType",
+            "UpdateContainerImageName",
+            "UpdateContainerImageNames",
+            "UpdateServiceExternalIP",
+            "org.openrewrite.kubernetes.KubernetesBestPractices",
+            "org.openrewrite.kubernetes.migrate.MigrateToAPIv1_32",
+            "org.openrewrite.kubernetes.search.FindHarcodedIPAddresses"
+    })
+    String recipeName;
+
+    Recipe recipe;
+    List<SourceFile> sourceFiles;
+    int documentCount;
+
+    @Setup
+    public void setup() {
+        recipe = recipe(recipeName);
+        sourceFiles = KubernetesParser.builder().build()
+                .parseInputs(corpus.generate(), null, new InMemoryExecutionContext())
+                .collect(toList());
+        for (SourceFile sourceFile : sourceFiles) {
+            if (sourceFile instanceof Yaml.Documents) {
+                documentCount += ((Yaml.Documents) sourceFile).getDocuments().size();
+            }
+        }
+    }
+
+    @Benchmark
+    public void run(Documents documents, Blackhole blackhole) {
+        blackhole.consume(recipe.run(new InMemoryLargeSourceSet(sourceFiles), new InMemoryExecutionContext()));
+        documents.documents += documentCount;
+    }
+
+    private static Recipe recipe(String name) {
+        switch (name) {
+            case "AddConfiguration":
+                return new AddConfiguration(null, "Pod", "$.spec.securityContext", "securityContext:\n  runAsNonRoot: true");
+            case "AddRuleToRole":
+                return new AddRuleToRole("Role", "role-*", set(""), set("pods"), null, set("watch"), null);
+            case "CapResourceValueToMaximum":
+                return new CapResourceValueToMaximum("limits", "memory", "256Mi", null);
+            case "ChangeApiVersion":
+                return new ChangeApiVersion("batch/v1", "batch/v2", null);
+            case "FindAnnotation":
+                return new FindAnnotation("example.com/owner", null, null);
+            case "FindContainerImages":
+                return new FindContainerImages(null);
+            case "FindDisallowedImageTags":
+                return new FindDisallowedImageTags("latest,1.0", true, null);
+            case "FindExceedsResourceRatio":
+                return new FindExceedsResourceRatio("memory", "2", null);
+            case "FindExceedsResourceValue":
+                return new FindExceedsResourceValue("limits", "memory", "256Mi", null);
+            case "FindImage":
+                return new FindImage("registry.example.com/*", "app-*", null, true, null);
+            case "FindMissingConfigurations":
+                return new FindMissingConfigurations(null, asList(
+                        new FindMissingConfigurations.Rule("Pod", "$.spec.containers[*].livenessProbe", null),
+                        new FindMissingConfigurations.Rule(null, "$..resources.limits.cpu", null)), null);
+            case "FindMissingDigest":
+                return new FindMissingDigest(true, null);
+            case "FindMissingOrInvalidAnnotation":
+                return new FindMissingOrInvalidAnnotation("example.com/owner", "^team$", null);
+            case "FindMissingOrInvalidLabel":
+                return new FindMissingOrInvalidLabel("app", "^[a-z]+-[0-9]+$", null);
+            case "FindNonTlsIngress":
+                return new FindNonTlsIngress(null);
+            case "FindResourceMissingConfiguration":
+                return new FindResourceMissingConfiguration("Pod", "$.spec.containers[*].readinessProbe", null);
+            case "FindServiceExternalIPs":
+                return new FindServiceExternalIPs(set("10.0.1.1"), false, null);
+            case "FindServicesByType":
+                return new FindServicesByType("NodePort", null);
+            case "UpdateContainerImageName":
+                return new UpdateContainerImageName("registry.example.com/team", "app-*", null, null,
+                        "mirror.example.com/team", null, null, null, true, null);
+            case "UpdateContainerImageNames":
+                return new UpdateContainerImageNames(asList("busybox:1.36=busybox:1.37",
+                        "registry.example.com/team/app-1=mirror.example.com/team/app-1"), null, true, null);
+            case "UpdateServiceExternalIP":
+                return new UpdateServiceExternalIP("10.0.1.1", "10.0.1.2", null);
+            default:
+                return Environment.builder()
+                        .scanRuntimeClasspath("org.openrewrite.kubernetes")
+                        .build()
+                        .activateRecipes(name);
+        }
+    }
+
+    private static Set<String> set(String... values) {
+        return new HashSet<>(asList(values));
+    }
+}
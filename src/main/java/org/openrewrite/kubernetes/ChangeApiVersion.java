@@ -18,11 +18,10 @@ package org.openrewrite.kubernetes;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.jspecify.annotations.Nullable;
-import org.openrewrite.ExecutionContext;
-import org.openrewrite.Option;
-import org.openrewrite.Recipe;
-import org.openrewrite.TreeVisitor;
-import org.openrewrite.yaml.ChangePropertyValue;
+import org.openrewrite.*;
+import org.openrewrite.kubernetes.tree.ApiVersions;
+import org.openrewrite.yaml.YamlIsoVisitor;
+import org.openrewrite.yaml.tree.Yaml;
 
 @Value
 @EqualsAndHashCode(callSuper = false)
@@ -52,17 +51,21 @@ public class ChangeApiVersion extends Recipe {
 
     @Override
     public String getDescription() {
-        return "Change the Kubernetes API version in a resource.";
+        return "Change the Kubernetes API version in a resource. Only the `apiVersion` at the root of each document is changed, " +
+               "not those nested in it, like the apiVersion of an owner reference.";
     }
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return new ChangePropertyValue(
-                "apiVersion",
-                newApiVersion,
-                oldApiVersion,
-                null,
-                null,
-                fileMatcher).getVisitor();
+        YamlIsoVisitor<ExecutionContext> visitor = new YamlIsoVisitor<ExecutionContext>() {
+            /**
+             * Looks only at the entries of the document's root mapping, rather than visiting every node of the document.
+             */
+            @Override
+            public Yaml.Document visitDocument(Yaml.Document document, ExecutionContext ctx) {
+                return ApiVersions.withApiVersion(document, apiVersion -> oldApiVersion.equals(apiVersion) ? newApiVersion : null);
+            }
+        };
+        return fileMatcher != null ? Preconditions.check(new FindSourceFiles(fileMatcher), visitor) : visitor;
     }
 }
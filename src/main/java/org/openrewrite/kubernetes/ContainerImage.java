@@ -21,9 +21,8 @@ import lombok.With;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.yaml.tree.Yaml;
 
-import java.nio.file.*;
-import java.util.Arrays;
-import java.util.Objects;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.openrewrite.internal.StringUtils.isNullOrEmpty;
 
@@ -31,7 +30,13 @@ import static org.openrewrite.internal.StringUtils.isNullOrEmpty;
 @EqualsAndHashCode
 public class ContainerImage {
 
-    private static final FileSystem FS = FileSystems.getDefault();
+    /**
+     * The same few base images tend to be referenced throughout a repository's manifests, so parsed
+     * images are shared, up to a bound that protects against unbounded growth on very large repositories.
+     */
+    private static final int MAX_INTERNED = 4096;
+
+    private static final Map<String, ContainerImage> INTERNED = new ConcurrentHashMap<>();
 
     ImageName imageName;
 
@@ -40,32 +45,56 @@ public class ContainerImage {
     }
 
     public ContainerImage(String imageName) {
-        String repository = null;
-        String image = imageName;
-        String tag = null;
-        String digest = null;
-
-        int idx = imageName.lastIndexOf('@');
-        if (idx > -1) {
-            digest = imageName.substring(idx + 1);
-            imageName = imageName.substring(0, idx);
-            image = imageName;
-        }
-        idx = imageName.lastIndexOf(':');
-        if (idx > -1) {
-            image = imageName.substring(0, idx);
-            tag = imageName.substring(idx + 1);
-            imageName = imageName.substring(0, idx);
+        this.imageName = parse(imageName);
+    }
+
+    /**
+     * @param imageName An image reference, like {@code registry:5000/account/image:tag@digest}.
+     * @return The parsed image, shared with other callers that parsed the same reference.
+     */
+    public static ContainerImage of(String imageName) {
+        ContainerImage image = INTERNED.get(imageName);
+        if (image == null) {
+            image = new ContainerImage(imageName);
+            if (INTERNED.size() < MAX_INTERNED) {
+                INTERNED.putIfAbsent(imageName, image);
+            }
         }
-        idx = imageName.lastIndexOf('/');
-        if (idx > -1) {
-            image = imageName.substring(idx + 1);
-            String s = imageName.substring(0, idx);
-            if (!isNullOrEmpty(s)) {
-                repository = s;
+        return image;
+    }
+
+    /**
+     * Parses an image reference in one pass, recording the offsets of the last {@code /}, the tag's {@code :} and
+     * the digest's {@code @}. Only a {@code :} after the last {@code /} introduces a tag, so that a registry port,
+     * as in {@code registry:5000/image}, remains part of the repository. A component spanning the whole reference
+     * is the reference itself rather than a copy.
+     */
+    private static ImageName parse(String reference) {
+        int length = reference.length();
+        int lastSlash = -1;
+        int tagColon = -1;
+        int digestAt = -1;
+        for (int i = 0; i < length; i++) {
+            char c = reference.charAt(i);
+            if (c == '@') {
+                digestAt = i;
+                break;
+            } else if (c == '/') {
+                lastSlash = i;
+                tagColon = -1;
+            } else if (c == ':') {
+                tagColon = i;
             }
         }
-        this.imageName = new ImageName(repository, image, tag, digest);
+
+        int nameEnd = digestAt < 0 ? length : digestAt;
+        int imageEnd = tagColon < 0 ? nameEnd : tagColon;
+        return new ImageName(
+                lastSlash > 0 ? reference.substring(0, lastSlash) : null,
+                reference.substring(lastSlash + 1, imageEnd),
+                tagColon < 0 ? null : reference.substring(tagColon + 1, nameEnd),
+                digestAt < 0 ? null : reference.substring(digestAt + 1)
+        );
     }
 
     @Value
@@ -87,25 +116,12 @@ public class ContainerImage {
         @Nullable
         String digest;
 
+        /**
+         * @param otherName The name to match, whose components may be glob patterns.
+         * @return {@code true} when this name matches the other name.
+         */
         public boolean matches(ImageName otherName) {
-            boolean matchesRepo =
-                    bothNull(this.getRepository(), otherName.getRepository()) ||
-                            Objects.equals(this.getRepository(), otherName.getRepository()) ||
-                            isGlobMatch(this.getRepository(), otherName.getRepository());
-            boolean matchesImage =
-                    bothNull(this.getImage(), otherName.getImage()) ||
-                            Objects.equals(this.getImage(), otherName.getImage()) ||
-                            isGlobMatch(this.getImage(), otherName.getImage());
-            boolean matchesTag =
-                    bothNull(this.getTag(), otherName.getTag()) ||
-                            Objects.equals(this.getTag(), otherName.getTag()) ||
-                            isGlobMatch(this.getTag(), otherName.getTag());
-            boolean matchesDigest =
-                    bothNull(this.getDigest(), otherName.getDigest()) ||
-                            Objects.equals(this.getDigest(), otherName.getDigest()) ||
-                            isGlobMatch(this.getDigest(), otherName.getDigest());
-
-            return matchesRepo && matchesImage && matchesTag && matchesDigest;
+            return ImageNameMatcher.of(otherName).matches(this);
         }
 
         public boolean hasDigest() {
@@ -114,44 +130,25 @@ public class ContainerImage {
 
         @Override
         public String toString() {
-            String s = "";
-            if (!isNullOrEmpty(repository)) {
-                s += repository + "/";
+            boolean hasRepository = !isNullOrEmpty(repository);
+            boolean hasTag = !isNullOrEmpty(tag);
+            boolean hasDigest = !isNullOrEmpty(digest) && !"*".equals(digest);
+            if (!hasRepository && !hasTag && !hasDigest && image != null) {
+                return image;
             }
-            s += image;
-            if (!isNullOrEmpty(tag)) {
-                s += ":" + tag;
-            }
-            if (!isNullOrEmpty(digest) && !"*".equals(digest)) {
-                s += "@" + digest;
-            }
-            return s;
-        }
-
 
-        private static boolean bothNull(@Nullable String s1, @Nullable String s2) {
-            return s1 == null && s2 == null;
-        }
-
-        private static boolean isGlobMatch(@Nullable String s1, @Nullable String s2) {
-            if ("*".equals(s2)) {
-                return true;
+            StringBuilder s = new StringBuilder(32);
+            if (hasRepository) {
+                s.append(repository).append('/');
+            }
+            s.append(image);
+            if (hasTag) {
+                s.append(':').append(tag);
             }
-            PathMatcher pm = FS.getPathMatcher("glob:" + s2);
-            Path path;
-            if (s1 != null && s1.contains("/")) {
-                String[] parts = s1.split("/");
-                if (parts.length > 1) {
-                    path = Paths.get(parts[0], Arrays.copyOfRange(parts, 1, parts.length - 1));
-                } else {
-                    path = Paths.get(parts[0]);
-                }
-            } else if (s1 == null) {
-                path = Paths.get("");
-            } else {
-                path = Paths.get(s1);
+            if (hasDigest) {
+                s.append('@').append(digest);
             }
-            return pm.matches(path);
+            return s.toString();
         }
     }
 
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.kubernetes;
+
+import org.openrewrite.*;
+import org.openrewrite.internal.InMemoryLargeSourceSet;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Runs a recipe over a stream of documents, such as those of {@link KubernetesParser#parseDocuments}, a bounded
+ * batch at a time, so that memory depends on the batch size rather than on the number of documents.
+ * <p>
+ * Each batch is a separate recipe run, so scanning recipes only see the documents of the batch they run on, and
+ * generate their files once per batch.
+ */
+public final class DocumentStreamRunner {
+    private final Recipe recipe;
+    private final int batchSize;
+
+    /**
+     * @param recipe    The recipe to run.
+     * @param batchSize The number of documents to run the recipe on at a time.
+     */
+    public DocumentStreamRunner(Recipe recipe, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive, but was " + batchSize);
+        }
+        this.recipe = recipe;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * @param documents The documents to run the recipe on, which is closed when done.
+     * @param ctx       The execution context shared by every batch, which collects their data tables.
+     * @param after     Receives every document in order after the recipe ran on it, whether or not it changed,
+     *                  followed by the files the recipe generated for its batch. Documents the recipe deleted are omitted.
+     */
+    public void run(Stream<SourceFile> documents, ExecutionContext ctx, Consumer<SourceFile> after) {
+        try (Stream<SourceFile> closing = documents) {
+            Iterator<SourceFile> iterator = closing.iterator();
+            List<SourceFile> batch = new ArrayList<>(batchSize);
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == batchSize || !iterator.hasNext()) {
+                    runBatch(batch, ctx, after);
+                    batch.clear();
+                }
+            }
+        }
+    }
+
+    private void runBatch(List<SourceFile> batch, ExecutionContext ctx, Consumer<SourceFile> after) {
+        RecipeRun run = recipe.run(new InMemoryLargeSourceSet(new ArrayList<>(batch)), ctx);
+        Map<UUID, Result> results = new HashMap<>();
+        List<SourceFile> generated = new ArrayList<>();
+        for (Result result : run.getChangeset().getAllResults()) {
+            if (result.getBefore() != null) {
+                results.put(result.getBefore().getId(), result);
+            } else if (result.getAfter() != null) {
+                generated.add(result.getAfter());
+            }
+        }
+        for (SourceFile before : batch) {
+            Result result = results.get(before.getId());
+            if (result == null) {
+                after.accept(before);
+            } else if (result.getAfter() != null) {
+                after.accept(result.getAfter());
+            }
+        }
+        generated.forEach(after);
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.kubernetes;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Matches {@link ContainerImage.ImageName}s against a search {@link ContainerImage.ImageName} whose components
+ * may be glob patterns. Each component's pattern is compiled once, with fast paths for exact and {@code *} patterns,
+ * so that matching an image does not allocate glob matchers or paths.
+ * <p>
+ * Glob components follow the syntax of {@link java.nio.file.FileSystem#getPathMatcher(String)}, so a bracket
+ * expression is negated by a leading {@code !} and {@code ^} is an ordinary character.
+ */
+public final class ImageNameMatcher {
+
+    /**
+     * A handful of search patterns are matched against every image in a repository, so compiled matchers are
+     * shared, up to a bound that protects against unbounded growth.
+     */
+    private static final int MAX_CACHED = 1024;
+
+    private static final Map<ContainerImage.ImageName, ImageNameMatcher> CACHE = new ConcurrentHashMap<>();
+
+    private final ComponentMatcher repository;
+    private final ComponentMatcher image;
+    private final ComponentMatcher tag;
+    private final ComponentMatcher digest;
+
+    public ImageNameMatcher(ContainerImage.ImageName search) {
+        this.repository = new ComponentMatcher(search.getRepository());
+        this.image = new ComponentMatcher(search.getImage());
+        this.tag = new ComponentMatcher(search.getTag());
+        this.digest = new ComponentMatcher(search.getDigest());
+    }
+
+    /**
+     * @param search The name to match against, whose components may be glob patterns.
+     * @return A matcher for the search name, shared with other callers that matched against the same name.
+     */
+    public static ImageNameMatcher of(ContainerImage.ImageName search) {
+        ImageNameMatcher matcher = CACHE.get(search);
+        if (matcher == null) {
+            matcher = new ImageNameMatcher(search);
+            if (CACHE.size() < MAX_CACHED) {
+                CACHE.putIfAbsent(search, matcher);
+            }
+        }
+        return matcher;
+    }
+
+    public boolean matches(ContainerImage.ImageName imageName) {
+        return repository.matches(imageName.getRepository()) &&
+               image.matches(imageName.getImage()) &&
+               tag.matches(imageName.getTag()) &&
+               digest.matches(imageName.getDigest());
+    }
+
+    private static class ComponentMatcher {
+        @Nullable
+        private final String pattern;
+
+        private final boolean any;
+
+        /**
+         * The compiled glob, or {@code null} when the pattern contains no glob syntax and is matched exactly.
+         */
+        @Nullable
+        private final Pattern glob;
+
+        ComponentMatcher(@Nullable String pattern) {
+            this.pattern = pattern;
+            this.any = "*".equals(pattern);
+            this.glob = pattern == null || any || !isGlob(pattern) ? null : Pattern.compile(globToRegex(pattern));
+        }
+
+        boolean matches(@Nullable String value) {
+            if (any) {
+                return true;
+            }
+            if (pattern == null) {
+                return value == null;
+            }
+            if (pattern.equals(value)) {
+                return true;
+            }
+            String path = asGlobPath(value);
+            return glob == null ? pattern.equals(path) : glob.matcher(path).matches();
+        }
+
+        /**
+         * Globs have always been matched against the value as a file system path that omits the value's final
+         * {@code /}-separated segment, e.g. a repository of {@code repo.io/account/bucket} matches {@code repo.io/*}.
+         */
+        private static String asGlobPath(@Nullable String value) {
+            if (value == null) {
+                return "";
+            }
+            int end = value.length();
+            while (end > 0 && value.charAt(end - 1) == '/') {
+                end--;
+            }
+            int lastSlash = value.lastIndexOf('/', end - 1);
+            if (lastSlash < 0) {
+                return value.substring(0, end);
+            }
+            return normalize(value.substring(0, lastSlash));
+        }
+
+        /**
+         * Drops empty segments, as constructing a path from the segments did.
+         */
+        private static String normalize(String path) {
+            if (!path.startsWith("/") && !path.endsWith("/") && !path.contains("//")) {
+                return path;
+            }
+            StringBuilder normalized = new StringBuilder(path.length());
+            for (int i = 0; i < path.length(); i++) {
+                char c = path.charAt(i);
+                if (c != '/' || (normalized.length() > 0 && normalized.charAt(normalized.length() - 1) != '/')) {
+                    normalized.append(c);
+                }
+            }
+            int length = normalized.length();
+            if (length > 0 && normalized.charAt(length - 1) == '/') {
+                normalized.setLength(length - 1);
+            }
+            return normalized.toString();
+        }
+
+        private static boolean isGlob(String pattern) {
+            for (int i = 0; i < pattern.length(); i++) {
+                switch (pattern.charAt(i)) {
+                    case '*':
+                    case '?':
+                    case '[':
+                    case '{':
+                    case '\\':
+                        return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Translates the glob syntax of {@link java.nio.file.FileSystem#getPathMatcher(String)} into a regular expression.
+         */
+        private static String globToRegex(String glob) {
+            StringBuilder regex = new StringBuilder("^");
+            boolean inGroup = false;
+            for (int i = 0; i < glob.length(); i++) {
+                char c = glob.charAt(i);
+                switch (c) {
+                    case '\\':
+                        if (i + 1 < glob.length()) {
+                            appendLiteral(regex, glob.charAt(++i));
+                        } else {
+                            appendLiteral(regex, c);
+                        }
+                        break;
+                    case '*':
+                        if (i + 1 < glob.length() && glob.charAt(i + 1) == '*') {
+                            regex.append(".*");
+                            i++;
+                        } else {
+                            regex.append("[^/]*");
+                        }
+                        break;
+                    case '?':
+                        regex.append("[^/]");
+                        break;
+                    case '[':
+                        int close = glob.indexOf(']', i + 2);
+                        if (close < 0) {
+                            appendLiteral(regex, c);
+                            break;
+                        }
+                        regex.append("[[^/]&&[");
+                        int start = i + 1;
+                        if (glob.charAt(start) == '!') {
+                            regex.append('^');
+                            start++;
+                        }
+                        for (int j = start; j < close; j++) {
+                            char cc = glob.charAt(j);
+                            if (cc == '[' || cc == '&' || cc == '^' || cc == '\\') {
+                                regex.append('\\');
+                            }
+                            regex.append(cc);
+                        }
+                        regex.append("]]");
+                        i = close;
+                        break;
+                    case '{':
+                        if (inGroup) {
+                            appendLiteral(regex, c);
+                        } else {
+                            regex.append("(?:(?:");
+                            inGroup = true;
+                        }
+                        break;
+                    case '}':
+                        if (inGroup) {
+                            regex.append("))");
+                            inGroup = false;
+                        } else {
+                            appendLiteral(regex, c);
+                        }
+                        break;
+                    case ',':
+                        if (inGroup) {
+                            regex.append(")|(?:");
+                        } else {
+                            appendLiteral(regex, c);
+                        }
+                        break;
+                    default:
+                        appendLiteral(regex, c);
+                }
+            }
+            if (inGroup) {
+                regex.append("))");
+            }
+            return regex.append('$').toString();
+        }
+
+        private static void appendLiteral(StringBuilder regex, char c) {
+            if ("\\^$.|?*+()[]{}".indexOf(c) >= 0) {
+                regex.append('\\');
+            }
+            regex.append(c);
+        }
+    }
+}
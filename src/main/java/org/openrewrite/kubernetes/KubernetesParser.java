@@ -21,13 +21,26 @@ import org.openrewrite.SourceFile;
 import org.openrewrite.yaml.YamlParser;
 import org.openrewrite.yaml.tree.Yaml;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.Collections.singletonList;
 
 /**
- * @deprecated Unused; likely better served by {@link org.openrewrite.kubernetes.trait.Traits}.
+ * A {@link YamlParser} that adds a {@link org.openrewrite.kubernetes.tree.KubernetesModel} to each document it parses.
  */
-@Deprecated
 public final class KubernetesParser extends YamlParser {
 
     public static Builder builder() {
@@ -43,10 +56,136 @@ public final class KubernetesParser extends YamlParser {
                 .map(yaml -> yaml instanceof Yaml.Documents ? updateModel((Yaml.Documents) yaml, ctx) : yaml);
     }
 
+    /**
+     * Parses a multi-document input one document at a time, rather than into a single {@link Yaml.Documents}, so
+     * that inputs like rendered Helm charts or concatenated manifests of thousands of documents don't need to be
+     * held in memory at once. The input is split lazily at the {@code ---} lines that start each document, and each
+     * document becomes a {@link Yaml.Documents} of its own with its {@link org.openrewrite.kubernetes.tree.KubernetesModel}.
+     * So that each has a distinct source path, the documents are numbered from 0 after a {@code #} in the file name
+     * of the input's path, like {@code chart.yaml#1} for the second document of {@code chart.yaml}. To write them back,
+     * strip the number and print the documents of an input in order, which reproduces it.
+     * Directives like {@code %YAML 1.2} stay with the document whose {@code ---} follows them.
+     * <p>
+     * A {@code kind: List}, like the output of {@code kubectl get -o yaml}, is a single document however many items
+     * it has, so it is parsed at once. A {@code ---} or {@code %} at the start of a line within a multi-line quoted
+     * scalar is taken as a document boundary too.
+     *
+     * @return The documents of the input, to be closed when done with to release the input.
+     */
+    public Stream<SourceFile> parseDocuments(Input input, @Nullable Path relativeTo, ExecutionContext ctx) {
+        Reader reader = new BufferedReader(new InputStreamReader(input.getSource(ctx), StandardCharsets.UTF_8));
+        DocumentSources sources = new DocumentSources(reader);
+        Path path = input.getPath();
+        AtomicInteger index = new AtomicInteger();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(sources, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .flatMap(source -> parseInputs(singletonList(Input.fromString(
+                        path.resolveSibling(path.getFileName() + "#" + index.getAndIncrement()), source)), relativeTo, ctx))
+                .onClose(() -> {
+                    try {
+                        reader.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
     private Yaml.Documents updateModel(Yaml.Documents yaml, ExecutionContext ctx) {
         return (Yaml.Documents) new UpdateKubernetesModel<>().visitNonNull(yaml, ctx);
     }
 
+    /**
+     * The source of each document of a multi-document input, including the directives and {@code ---} line that start it.
+     */
+    private static class DocumentSources implements Iterator<String> {
+        private final Reader reader;
+
+        @Nullable
+        private String separator;
+
+        @Nullable
+        private String next;
+
+        private boolean done;
+
+        DocumentSources(Reader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !done) {
+                next = read();
+            }
+            return next != null;
+        }
+
+        @Override
+        public String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            String source = next;
+            next = null;
+            return source;
+        }
+
+        private @Nullable String read() {
+            StringBuilder source = new StringBuilder();
+            // whether the source has more than the comments and directives that lead into a document
+            boolean body = false;
+            String line = separator;
+            separator = null;
+            if (line == null) {
+                line = readLine();
+            }
+            for (; line != null; line = readLine()) {
+                boolean boundary = isSeparator(line) || isDirective(line);
+                if (body && boundary) {
+                    separator = line;
+                    return source.toString();
+                }
+                if (!isDirective(line) && !isComment(line)) {
+                    body = true;
+                }
+                source.append(line);
+            }
+            done = true;
+            return source.length() == 0 ? null : source.toString();
+        }
+
+        /**
+         * @return The next line, including its line terminator, or {@code null} at the end of the input.
+         */
+        private @Nullable String readLine() {
+            try {
+                StringBuilder line = new StringBuilder();
+                int c;
+                while ((c = reader.read()) != -1) {
+                    line.append((char) c);
+                    if (c == '\n') {
+                        break;
+                    }
+                }
+                return line.length() == 0 ? null : line.toString();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private static boolean isSeparator(String line) {
+            return line.startsWith("---") && (line.length() == 3 || Character.isWhitespace(line.charAt(3)));
+        }
+
+        private static boolean isDirective(String line) {
+            return line.startsWith("%");
+        }
+
+        private static boolean isComment(String line) {
+            String trimmed = line.trim();
+            return trimmed.isEmpty() || trimmed.startsWith("#");
+        }
+    }
+
     public static class Builder extends YamlParser.Builder {
         @Override
         public KubernetesParser build() {
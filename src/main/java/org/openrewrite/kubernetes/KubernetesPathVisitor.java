@@ -0,0 +1,189 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.kubernetes;
+
+import org.openrewrite.Cursor;
+import org.openrewrite.yaml.YamlIsoVisitor;
+import org.openrewrite.yaml.tree.Yaml;
+
+import java.util.Arrays;
+
+/**
+ * A visitor that tracks the key path of the node being visited as it descends a document, so that
+ * structural questions like "is this scalar the image of a container" are answered in constant time
+ * rather than by walking the cursor and evaluating a recursive-descent JsonPath on every node.
+ * <p>
+ * Mapping entries contribute their key to the path, and sequence entries contribute {@link #SEQUENCE_ENTRY}.
+ *
+ * @param <P> The type of parameter passed to the visitor.
+ */
+public class KubernetesPathVisitor<P> extends YamlIsoVisitor<P> {
+    public static final String SEQUENCE_ENTRY = "[*]";
+
+    private String[] path = new String[16];
+    private int depth;
+
+    /**
+     * The depth of the path at the sequence entry of the innermost enclosing {@code spec.containers[*]},
+     * or -1 when not inside one. Likewise for {@code initContainers} and the {@code image} key.
+     */
+    private int containerDepth = -1;
+    private int initContainerDepth = -1;
+    private int imageDepth = -1;
+
+    @Override
+    public Yaml.Document visitDocument(Yaml.Document document, P p) {
+        depth = 0;
+        containerDepth = -1;
+        initContainerDepth = -1;
+        imageDepth = -1;
+        return super.visitDocument(document, p);
+    }
+
+    @Override
+    public Yaml.Mapping.Entry visitMappingEntry(Yaml.Mapping.Entry entry, P p) {
+        push(entry.getKey().getValue());
+        try {
+            return super.visitMappingEntry(entry, p);
+        } finally {
+            pop();
+        }
+    }
+
+    @Override
+    public Yaml.Sequence.Entry visitSequenceEntry(Yaml.Sequence.Entry entry, P p) {
+        push(SEQUENCE_ENTRY);
+        try {
+            return super.visitSequenceEntry(entry, p);
+        } finally {
+            pop();
+        }
+    }
+
+    /**
+     * @return {@code true} when the node being visited is beneath an entry of a container in any
+     * {@code spec.containers} sequence.
+     */
+    protected boolean inContainerSpec() {
+        return containerDepth >= 0 && depth > containerDepth && !isVisitingKey();
+    }
+
+    /**
+     * @return {@code true} when the node being visited is beneath an entry of a container in any
+     * {@code spec.initContainers} sequence.
+     */
+    protected boolean inInitContainerSpec() {
+        return initContainerDepth >= 0 && depth > initContainerDepth && !isVisitingKey();
+    }
+
+    /**
+     * @return {@code true} when the node being visited is the value of, or nested within, an {@code image} entry.
+     */
+    protected boolean isImageName() {
+        return imageDepth >= 0 && !isVisitingKey();
+    }
+
+    /**
+     * @return The number of segments in the current path.
+     */
+    protected int getPathDepth() {
+        return depth;
+    }
+
+    /**
+     * @param segments The expected path from the document root, using {@link #SEQUENCE_ENTRY} for sequence entries.
+     * @return {@code true} when the current path is exactly the given segments.
+     */
+    protected boolean pathEquals(String... segments) {
+        if (segments.length != depth) {
+            return false;
+        }
+        for (int i = 0; i < depth; i++) {
+            if (!segments[i].equals(path[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param segments The expected trailing segments, using {@link #SEQUENCE_ENTRY} for sequence entries.
+     * @return {@code true} when the current path ends with the given segments.
+     */
+    protected boolean pathEndsWith(String... segments) {
+        int offset = depth - segments.length;
+        if (offset < 0) {
+            return false;
+        }
+        for (int i = 0; i < segments.length; i++) {
+            if (!segments[i].equals(path[offset + i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Entry keys are visited as scalars too, but only the values are of interest to the structural predicates.
+     */
+    private boolean isVisitingKey() {
+        Cursor parent = getCursor().getParent();
+        return parent != null &&
+               parent.getValue() instanceof Yaml.Mapping.Entry &&
+               ((Yaml.Mapping.Entry) parent.getValue()).getKey() == getCursor().getValue();
+    }
+
+    private void push(String segment) {
+        if (depth == path.length) {
+            path = Arrays.copyOf(path, depth * 2);
+        }
+        path[depth++] = segment;
+        if (SEQUENCE_ENTRY.equals(segment) && depth >= 3 && "spec".equals(path[depth - 3])) {
+            if ("containers".equals(path[depth - 2])) {
+                containerDepth = depth;
+            } else if ("initContainers".equals(path[depth - 2])) {
+                initContainerDepth = depth;
+            }
+        } else if (imageDepth < 0 && "image".equals(segment)) {
+            imageDepth = depth;
+        }
+    }
+
+    private void pop() {
+        path[--depth] = null;
+        if (containerDepth > depth) {
+            containerDepth = lastDepthOf("containers");
+        }
+        if (initContainerDepth > depth) {
+            initContainerDepth = lastDepthOf("initContainers");
+        }
+        if (imageDepth > depth) {
+            imageDepth = -1;
+        }
+    }
+
+    /**
+     * Only consulted when leaving a container, to restore an outer container of the same kind, if any.
+     */
+    private int lastDepthOf(String containers) {
+        for (int i = depth - 1; i >= 2; i--) {
+            if (SEQUENCE_ENTRY.equals(path[i]) && containers.equals(path[i - 1]) && "spec".equals(path[i - 2])) {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+}
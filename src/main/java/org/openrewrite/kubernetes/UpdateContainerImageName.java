@@ -20,13 +20,8 @@ import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
-import org.openrewrite.yaml.YamlIsoVisitor;
 import org.openrewrite.yaml.tree.Yaml;
 
-import static org.openrewrite.kubernetes.tree.K8S.Containers.inContainerSpec;
-import static org.openrewrite.kubernetes.tree.K8S.Containers.isImageName;
-import static org.openrewrite.kubernetes.tree.K8S.InitContainers.inInitContainerSpec;
-
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class UpdateContainerImageName extends Recipe {
@@ -114,14 +109,14 @@ public class UpdateContainerImageName extends Recipe {
                 imageToFind,
                 tagToFind,
                 digestToFind);
+        ImageNameMatcher matcher = new ImageNameMatcher(imageToSearch);
 
-        YamlIsoVisitor<ExecutionContext> visitor = new YamlIsoVisitor<ExecutionContext>() {
+        KubernetesPathVisitor<ExecutionContext> visitor = new KubernetesPathVisitor<ExecutionContext>() {
             @Override
             public Yaml.Scalar visitScalar(Yaml.Scalar scalar, ExecutionContext ctx) {
-                Cursor c = getCursor();
-                if ((inContainerSpec(c) || (includeInitContainers && inInitContainerSpec(c))) && isImageName(c)) {
-                    ContainerImage image = new ContainerImage(scalar.getValue());
-                    if (image.getImageName().matches(imageToSearch)) {
+                if ((inContainerSpec() || (includeInitContainers && inInitContainerSpec())) && isImageName()) {
+                    ContainerImage image = ContainerImage.of(scalar.getValue());
+                    if (matcher.matches(image.getImageName())) {
                         ContainerImage.ImageName newName = image.getImageName();
                         if (null != repoToUpdate) {
                             newName = newName.withRepository(repoToUpdate);
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.kubernetes;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.yaml.tree.Yaml;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * A batch form of {@link UpdateContainerImageName} that applies a whole table of image mappings in one traversal.
+ * Mappings are indexed by their full reference and by repository and image name, so that each image costs one or
+ * two hash lookups, and only mappings with glob patterns are tried one by one. The index is built once per recipe
+ * run rather than once per source file, from the inline mappings and the mapping file found while scanning.
+ */
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class UpdateContainerImageNames extends ScanningRecipe<UpdateContainerImageNames.ImageMappings> {
+
+    @Option(displayName = "Mappings",
+            description = "Image mappings of the form `from=to`. A `from` without a tag or digest matches any version, " +
+                          "a `from` without a repository only matches images without one, and components may be glob patterns. " +
+                          "Only the components present in `to` are updated, and a `to` ending in `/` or `/*` replaces only the repository.",
+            example = "nginx=registry.example.com/mirror/nginx",
+            required = false)
+    @Nullable
+    List<String> mappings;
+
+    @Option(displayName = "Mapping file",
+            description = "The path, relative to the root of the repository, of a CSV file with `from,to` lines " +
+                          "or of a YAML file with a `from: to` mapping, of mappings in the same form as the inline mappings. " +
+                          "A CSV file must be parsed as plain text.",
+            example = "image-mappings.csv",
+            required = false)
+    @Nullable
+    String mappingFile;
+
+    @Option(displayName = "Include initContainers",
+            description = "Boolean to indicate whether or not to treat initContainers/image identically to containers/image.",
+            example = "false",
+            required = false)
+    boolean includeInitContainers;
+
+    @Option(displayName = "Optional file matcher",
+            description = "Matching files will be modified. This is a glob expression.",
+            required = false,
+            example = "**/pod-*.yml")
+    @Nullable
+    String fileMatcher;
+
+    @Override
+    public Validated<Object> validate() {
+        Validated<Object> validated = super.validate().and(
+                Validated.test("mappings",
+                        "Either mappings or a mapping file must be specified.",
+                        this,
+                        r -> (r.mappings != null && !r.mappings.isEmpty()) || r.mappingFile != null)
+        );
+        if (mappings != null) {
+            for (String mapping : mappings) {
+                validated = validated.and(Validated.test("mappings",
+                        "Image mapping '" + mapping + "' is not of the form from=to.",
+                        mapping,
+                        m -> m.indexOf('=') > 0));
+            }
+        }
+        return validated;
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "Update image names from a mapping table";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Replace the components of image names according to a table of mappings, " +
+               "given inline or in a CSV or YAML file, in a single pass.";
+    }
+
+    @Override
+    public ImageMappings getInitialValue(ExecutionContext ctx) {
+        ImageMappings index = new ImageMappings();
+        if (mappings != null) {
+            for (String mapping : mappings) {
+                int separator = mapping.indexOf('=');
+                if (separator > 0) {
+                    index.add(mapping.substring(0, separator), mapping.substring(separator + 1));
+                }
+            }
+        }
+        return index;
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(ImageMappings index) {
+        if (mappingFile == null) {
+            return TreeVisitor.noop();
+        }
+        Path mappingPath = Paths.get(mappingFile).normalize();
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof SourceFile && ((SourceFile) tree).getSourcePath().normalize().equals(mappingPath)) {
+                    loadMappingFile((SourceFile) tree, index);
+                }
+                return tree;
+            }
+        };
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(ImageMappings index) {
+        KubernetesPathVisitor<ExecutionContext> visitor = new KubernetesPathVisitor<ExecutionContext>() {
+            @Override
+            public Yaml.Scalar visitScalar(Yaml.Scalar scalar, ExecutionContext ctx) {
+                if ((inContainerSpec() || (includeInitContainers && inInitContainerSpec())) && isImageName()) {
+                    ContainerImage.ImageName imageName = ContainerImage.of(scalar.getValue()).getImageName();
+                    ContainerImage.ImageName to = index.find(scalar.getValue(), imageName);
+                    if (to != null) {
+                        String updated = update(imageName, to).toString();
+                        if (!updated.equals(scalar.getValue())) {
+                            return scalar.withValue(updated);
+                        }
+                    }
+                }
+                return super.visitScalar(scalar, ctx);
+            }
+        };
+        return fileMatcher != null ? Preconditions.check(new FindSourceFiles(fileMatcher), visitor) : visitor;
+    }
+
+    private static ContainerImage.ImageName update(ContainerImage.ImageName imageName, ContainerImage.ImageName to) {
+        ContainerImage.ImageName newName = imageName;
+        if (to.getRepository() != null) {
+            newName = newName.withRepository(to.getRepository());
+        }
+        if (to.getImage() != null) {
+            newName = newName.withImage(to.getImage());
+        }
+        if (to.getTag() != null) {
+            newName = newName.withTag(to.getTag());
+        }
+        if (to.getDigest() != null) {
+            newName = newName.withDigest(to.getDigest());
+        }
+        return newName;
+    }
+
+    private static void loadMappingFile(SourceFile mappingFile, ImageMappings index) {
+        if (mappingFile instanceof Yaml.Documents) {
+            for (Yaml.Document document : ((Yaml.Documents) mappingFile).getDocuments()) {
+                if (document.getBlock() instanceof Yaml.Mapping) {
+                    for (Yaml.Mapping.Entry entry : ((Yaml.Mapping) document.getBlock()).getEntries()) {
+                        if (entry.getValue() instanceof Yaml.Scalar) {
+                            index.add(entry.getKey().getValue(), ((Yaml.Scalar) entry.getValue()).getValue());
+                        }
+                    }
+                }
+            }
+        } else {
+            for (String line : mappingFile.printAll().split("\\r?\\n")) {
+                String trimmed = line.trim();
+                if (trimmed.isEmpty() || trimmed.startsWith("#") || "from,to".equalsIgnoreCase(trimmed)) {
+                    continue;
+                }
+                int separator = trimmed.indexOf(',');
+                if (separator < 0) {
+                    throw new IllegalArgumentException("Image mapping '" + trimmed + "' in " + mappingFile.getSourcePath() +
+                                                       " is not of the form from,to.");
+                }
+                index.add(trimmed.substring(0, separator).trim(), trimmed.substring(separator + 1).trim());
+            }
+        }
+    }
+
+    /**
+     * Mappings indexed for lookup by the full image reference, by repository and image name when the mapping
+     * does not constrain the tag or digest, and otherwise, for glob patterns, in declaration order.
+     */
+    public static class ImageMappings {
+        private final Map<String, ContainerImage.ImageName> byReference = new HashMap<>();
+        private final Map<String, ContainerImage.ImageName> byName = new HashMap<>();
+        private final List<ImageNameMatcher> globs = new ArrayList<>();
+        private final List<ContainerImage.ImageName> globTargets = new ArrayList<>();
+
+        void add(String from, String to) {
+            ContainerImage.ImageName fromName = ContainerImage.of(from).getImageName();
+            ContainerImage.ImageName toName = target(to);
+            boolean anyVersion = fromName.getTag() == null && fromName.getDigest() == null;
+            if (isGlob(from)) {
+                globs.add(new ImageNameMatcher(anyVersion ? fromName.withTag("*").withDigest("*") : fromName));
+                globTargets.add(toName);
+            } else if (anyVersion) {
+                byName.putIfAbsent(from, toName);
+            } else {
+                byReference.putIfAbsent(from, toName);
+            }
+        }
+
+        ContainerImage.@Nullable ImageName find(String reference, ContainerImage.ImageName imageName) {
+            ContainerImage.ImageName to = byReference.get(reference);
+            if (to == null && !byName.isEmpty()) {
+                to = byName.get(imageName.withTag(null).withDigest(null).toString());
+            }
+            for (int i = 0; to == null && i < globs.size(); i++) {
+                if (globs.get(i).matches(imageName)) {
+                    to = globTargets.get(i);
+                }
+            }
+            return to;
+        }
+
+        /**
+         * A target ending in {@code /} or {@code /*} is a repository, so that an image can be moved to another
+         * repository without naming it, as in {@code gcr.io/account/*=registry.example.com/gcr/*}.
+         */
+        private static ContainerImage.ImageName target(String to) {
+            if (to.endsWith("/*")) {
+                return new ContainerImage.ImageName(to.substring(0, to.length() - 2), null, null, null);
+            } else if (to.endsWith("/")) {
+                return new ContainerImage.ImageName(to.substring(0, to.length() - 1), null, null, null);
+            }
+            return ContainerImage.of(to).getImageName();
+        }
+
+        private static boolean isGlob(String from) {
+            for (int i = 0; i < from.length(); i++) {
+                switch (from.charAt(i)) {
+                    case '*':
+                    case '?':
+                    case '[':
+                    case '{':
+                        return true;
+                }
+            }
+            return false;
+        }
+    }
+}
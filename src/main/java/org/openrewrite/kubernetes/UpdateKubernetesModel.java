@@ -15,87 +15,113 @@
  */
 package org.openrewrite.kubernetes;
 
+import org.jspecify.annotations.Nullable;
 import org.openrewrite.kubernetes.tree.KubernetesModel;
 import org.openrewrite.yaml.YamlIsoVisitor;
 import org.openrewrite.yaml.tree.Yaml;
 
 import java.util.HashMap;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Map;
 
 import static org.openrewrite.Tree.randomId;
 
+/**
+ * Attaches a {@link KubernetesModel} marker to each document that declares an {@code apiVersion} and {@code kind}.
+ * <p>
+ * Only the top-level {@code apiVersion}, {@code kind} and {@code metadata} entries contribute to the model,
+ * so the visitor never descends into {@code spec}, {@code data} or any other part of the document.
+ */
 public class UpdateKubernetesModel<P> extends YamlIsoVisitor<P> {
-    private static final Pattern METADATA_LABEL = Pattern.compile("/metadata/labels/(.+)");
-    private static final Pattern METADATA_ANNOTATION = Pattern.compile("/metadata/annotations/(.+)");
 
     @Override
     public Yaml.Document visitDocument(Yaml.Document document, P p) {
-        Yaml.Document d = super.visitDocument(document, p);
-
-        if (getCursor().<String>getMessage("apiVersion") != null &&
-            getCursor().<String>getMessage("kind") != null) {
-            KubernetesModel kubernetesModel = new KubernetesModel(
-                    randomId(),
-                    getCursor().getMessage("apiVersion"),
-                    getCursor().getMessage("kind"),
-                    new KubernetesModel.Metadata(
-                            getCursor().getMessage("namespace"),
-                            getCursor().getMessage("name"),
-                            getCursor().getMessage("annotations"),
-                            getCursor().getMessage("labels")
-                    ));
-            return d.withMarkers(document.getMarkers().addIfAbsent(kubernetesModel));
+        KubernetesModel kubernetesModel = modelOf(document);
+        if (kubernetesModel != null) {
+            return document.withMarkers(document.getMarkers().addIfAbsent(kubernetesModel));
         }
-
-        return d;
+        return document;
     }
 
-    @Override
-    public Yaml.Mapping.Entry visitMappingEntry(Yaml.Mapping.Entry entry, P p) {
-        String path = getPath();
-
-        if (entry.getValue() instanceof Yaml.Scalar) {
-            String value = ((Yaml.Scalar) entry.getValue()).getValue();
-
-            switch (path) {
-                case "/apiVersion":
-                    getCursor().putMessageOnFirstEnclosing(Yaml.Document.class, "apiVersion", value);
-                    break;
-                case "/kind":
-                    getCursor().putMessageOnFirstEnclosing(Yaml.Document.class, "kind", value);
+    /**
+     * @param document The document to read the model from.
+     * @return The model of the document, or {@code null} when it does not declare both an {@code apiVersion} and a {@code kind}.
+     */
+    public static @Nullable KubernetesModel modelOf(Yaml.Document document) {
+        if (!(document.getBlock() instanceof Yaml.Mapping)) {
+            return null;
+        }
+        String apiVersion = null;
+        String kind = null;
+        Yaml.Mapping metadata = null;
+        for (Yaml.Mapping.Entry entry : ((Yaml.Mapping) document.getBlock()).getEntries()) {
+            switch (entry.getKey().getValue()) {
+                case "apiVersion":
+                    apiVersion = scalarValue(entry);
                     break;
-                case "/metadata/namespace":
-                    getCursor().putMessageOnFirstEnclosing(Yaml.Document.class, "namespace", value);
+                case "kind":
+                    kind = scalarValue(entry);
                     break;
-                case "/metadata/name":
-                    getCursor().putMessageOnFirstEnclosing(Yaml.Document.class, "name", value);
+                case "metadata":
+                    if (entry.getValue() instanceof Yaml.Mapping) {
+                        metadata = (Yaml.Mapping) entry.getValue();
+                    }
                     break;
             }
+        }
+        if (apiVersion == null || kind == null) {
+            return null;
+        }
+        return new KubernetesModel(randomId(), apiVersion, kind, metadataOf(metadata));
+    }
 
-            Matcher label = METADATA_LABEL.matcher(path);
-            if (label.matches()) {
-                getCursor().dropParentUntil(Yaml.Document.class::isInstance)
-                        .computeMessageIfAbsent("labels", l -> new HashMap<>())
-                        .put(label.group(1), value);
-            } else {
-                Matcher annotation = METADATA_ANNOTATION.matcher(path);
-                if (annotation.matches()) {
-                    getCursor().dropParentUntil(Yaml.Document.class::isInstance)
-                            .computeMessageIfAbsent("annotations", a -> new HashMap<>())
-                            .put(annotation.group(1), value);
+    /**
+     * @param metadata A {@code metadata} mapping, either at the top level of a resource or in a pod template.
+     * @return The namespace, name, labels and annotations declared with scalar values in the mapping.
+     */
+    public static KubernetesModel.Metadata metadataOf(Yaml.@Nullable Mapping metadata) {
+        String namespace = null;
+        String name = null;
+        Map<String, String> annotations = null;
+        Map<String, String> labels = null;
+        if (metadata != null) {
+            for (Yaml.Mapping.Entry entry : metadata.getEntries()) {
+                switch (entry.getKey().getValue()) {
+                    case "namespace":
+                        namespace = scalarValue(entry);
+                        break;
+                    case "name":
+                        name = scalarValue(entry);
+                        break;
+                    case "annotations":
+                        annotations = scalarValues(entry.getValue());
+                        break;
+                    case "labels":
+                        labels = scalarValues(entry.getValue());
+                        break;
                 }
             }
         }
+        return new KubernetesModel.Metadata(namespace, name, annotations, labels);
+    }
 
-        return super.visitMappingEntry(entry, p);
+    private static @Nullable String scalarValue(Yaml.Mapping.Entry entry) {
+        return entry.getValue() instanceof Yaml.Scalar ? ((Yaml.Scalar) entry.getValue()).getValue() : null;
     }
 
-    private String getPath() {
-        return "/" + getCursor().getPathAsStream()
-                .filter(org.openrewrite.yaml.tree.Yaml.Mapping.Entry.class::isInstance)
-                .map(Yaml.Mapping.Entry.class::cast)
-                .map(e -> e.getKey().getValue())
-                .reduce("", (a, b) -> b + (a.isEmpty() ? "" : "/" + a));
+    private static @Nullable Map<String, String> scalarValues(Yaml.Block block) {
+        if (!(block instanceof Yaml.Mapping)) {
+            return null;
+        }
+        Map<String, String> values = null;
+        for (Yaml.Mapping.Entry entry : ((Yaml.Mapping) block).getEntries()) {
+            String value = scalarValue(entry);
+            if (value != null) {
+                if (values == null) {
+                    values = new HashMap<>();
+                }
+                values.put(entry.getKey().getValue(), value);
+            }
+        }
+        return values;
     }
 }
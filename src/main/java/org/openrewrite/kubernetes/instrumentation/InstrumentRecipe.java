@@ -0,0 +1,234 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.kubernetes.instrumentation;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.config.DataTableDescriptor;
+import org.openrewrite.config.Environment;
+import org.openrewrite.kubernetes.table.RecipePerformance;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs another recipe, timing the visitor of it and of each of its sub-recipes, along with the
+ * {@link org.openrewrite.kubernetes.tree.K8S} predicates those visitors call. The statistics are collected on the
+ * {@link ExecutionContext}, see {@link Instrumentation#collector(ExecutionContext)}, and emitted per source file.
+ * <p>
+ * The visitors of scanning recipes are run, but not timed.
+ */
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class InstrumentRecipe extends Recipe {
+
+    @Option(displayName = "Recipe",
+            description = "The fully qualified name of the recipe to run with instrumentation.",
+            example = "org.openrewrite.kubernetes.KubernetesBestPractices")
+    String recipe;
+
+    transient RecipePerformance performance = new RecipePerformance(this);
+
+    /**
+     * Loading the recipe scans the classpath, so it is done once, when the recipe is validated, rather than on
+     * every call to {@link #getRecipeList()}.
+     */
+    @Getter(AccessLevel.NONE)
+    transient AtomicReference<@Nullable List<Recipe>> recipeList = new AtomicReference<>();
+
+    @Override
+    public String getDisplayName() {
+        return "Instrument a recipe";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Run a recipe, recording the time spent in the visitor of each of its sub-recipes and in the Kubernetes predicates they call.";
+    }
+
+    @Override
+    public Validated<Object> validate() {
+        Validated<Object> validated = super.validate();
+        if (validated.isValid()) {
+            try {
+                getRecipeList();
+            } catch (RecipeException e) {
+                validated = validated.and(Validated.invalid("recipe", recipe, e.getMessage()));
+            }
+        }
+        return validated;
+    }
+
+    @Override
+    public List<Recipe> getRecipeList() {
+        List<Recipe> recipes = recipeList.get();
+        if (recipes == null) {
+            Recipe instrumented = Environment.builder()
+                    .scanRuntimeClasspath()
+                    .build()
+                    .activateRecipes(recipe);
+            recipes = new ArrayList<>(2);
+            recipes.add(timed(instrumented));
+            recipes.add(new EmitStatistics(performance));
+            if (!recipeList.compareAndSet(null, recipes)) {
+                recipes = recipeList.get();
+            }
+        }
+        return recipes;
+    }
+
+    private static Recipe timed(Recipe recipe) {
+        return recipe instanceof ScanningRecipe ? recipe : new Timed(recipe);
+    }
+
+    private static class Timed extends Recipe {
+        private final Recipe delegate;
+
+        @Nullable
+        private List<Recipe> recipeList;
+
+        Timed(Recipe delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String getName() {
+            return delegate.getName();
+        }
+
+        @Override
+        public String getDisplayName() {
+            return delegate.getDisplayName();
+        }
+
+        @Override
+        public String getDescription() {
+            return delegate.getDescription();
+        }
+
+        @Override
+        public boolean causesAnotherCycle() {
+            return delegate.causesAnotherCycle();
+        }
+
+        @Override
+        public Validated<Object> validate() {
+            return delegate.validate();
+        }
+
+        @Override
+        public Validated<Object> validate(ExecutionContext ctx) {
+            return delegate.validate(ctx);
+        }
+
+        @Override
+        public @Nullable Duration getEstimatedEffortPerOccurrence() {
+            return delegate.getEstimatedEffortPerOccurrence();
+        }
+
+        @Override
+        public List<DataTableDescriptor> getDataTableDescriptors() {
+            return delegate.getDataTableDescriptors();
+        }
+
+        @Override
+        public List<Recipe> getRecipeList() {
+            if (recipeList == null) {
+                List<Recipe> recipes = delegate.getRecipeList();
+                List<Recipe> timed = new ArrayList<>(recipes.size());
+                for (Recipe r : recipes) {
+                    timed.add(timed(r));
+                }
+                recipeList = timed;
+            }
+            return recipeList;
+        }
+
+        @Override
+        public TreeVisitor<?, ExecutionContext> getVisitor() {
+            TreeVisitor<?, ExecutionContext> visitor = delegate.getVisitor();
+            String name = delegate.getName();
+            return new TreeVisitor<Tree, ExecutionContext>() {
+                @Override
+                public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
+                    return visitor.isAcceptable(sourceFile, ctx);
+                }
+
+                @Override
+                public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                    return visit(tree, ctx, new Cursor(null, Cursor.ROOT_VALUE));
+                }
+
+                @Override
+                public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx, Cursor parent) {
+                    Instrumentation.Collector collector = Instrumentation.collector(ctx);
+                    Instrumentation.Frame previous = Instrumentation.enter(collector, name);
+                    long start = System.nanoTime();
+                    Tree after = tree;
+                    try {
+                        after = visitor.visit(tree, ctx, parent);
+                        return after;
+                    } finally {
+                        collector.stats(name, null).add(System.nanoTime() - start, after != tree);
+                        Instrumentation.exit(previous);
+                    }
+                }
+            };
+        }
+    }
+
+    /**
+     * Runs after every instrumented recipe has visited a source file, to emit the statistics collected for it.
+     */
+    @Value
+    @EqualsAndHashCode(callSuper = false)
+    private static class EmitStatistics extends Recipe {
+        RecipePerformance performance;
+
+        @Override
+        public String getDisplayName() {
+            return "Emit recipe performance";
+        }
+
+        @Override
+        public String getDescription() {
+            return "Emit the statistics collected while instrumented recipes visited a source file.";
+        }
+
+        @Override
+        public TreeVisitor<?, ExecutionContext> getVisitor() {
+            return new TreeVisitor<Tree, ExecutionContext>() {
+                @Override
+                public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                    if (tree instanceof SourceFile) {
+                        String sourcePath = ((SourceFile) tree).getSourcePath().toString();
+                        for (Instrumentation.Stats stats : Instrumentation.collector(ctx).drain()) {
+                            performance.insertRow(ctx, new RecipePerformance.Row(sourcePath, stats.getRecipe(),
+                                    stats.getPredicate(), stats.getCalls(), stats.getNanos(), stats.getMatches()));
+                        }
+                    }
+                    return tree;
+                }
+            };
+        }
+    }
+}
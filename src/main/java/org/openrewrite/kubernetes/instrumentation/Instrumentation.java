@@ -0,0 +1,193 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.kubernetes.instrumentation;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Opt-in timing of recipe visitors and of the {@link org.openrewrite.kubernetes.tree.K8S} predicates they call,
+ * collected per {@link ExecutionContext} while running a recipe through {@link InstrumentRecipe}.
+ * <p>
+ * Predicates record themselves through {@link #record(String, Object, Predicate)}, which costs a single volatile read
+ * when no instrumented visitor is running anywhere, as long as the test it is given doesn't capture any variables
+ * and so isn't allocated on every call. Each predicate is charged its self time, excluding the time spent in the
+ * predicates it calls, so that nested predicates are not counted twice.
+ */
+public final class Instrumentation {
+    private static final String COLLECTOR = "org.openrewrite.kubernetes.Instrumentation.COLLECTOR";
+
+    /**
+     * The number of instrumented visitors currently running, on any thread.
+     */
+    private static final AtomicInteger ACTIVE = new AtomicInteger();
+
+    private static final ThreadLocal<@Nullable Frame> CURRENT = new ThreadLocal<>();
+
+    private Instrumentation() {
+    }
+
+    public static Collector collector(ExecutionContext ctx) {
+        return ctx.computeMessageIfAbsent(COLLECTOR, k -> new Collector());
+    }
+
+    /**
+     * Evaluates a predicate, recording the call against the recipe whose visitor is running on this thread, if any.
+     *
+     * @param subject What the predicate is evaluated on, passed to the test so that it needn't capture it.
+     * @return The result of the predicate.
+     */
+    public static <T extends @Nullable Object> boolean record(String predicate, T subject, Predicate<T> test) {
+        return record(predicate, test, subject, Predicate::test);
+    }
+
+    /**
+     * Evaluates a predicate with an argument, like the kind that {@code K8S.inKind} looks for, recording the call
+     * against the recipe whose visitor is running on this thread, if any.
+     *
+     * @return The result of the predicate.
+     */
+    public static <A, T extends @Nullable Object> boolean record(String predicate, A argument, T subject, BiPredicate<A, T> test) {
+        Frame frame = ACTIVE.get() > 0 ? CURRENT.get() : null;
+        if (frame == null) {
+            return test.test(argument, subject);
+        }
+
+        long enclosingChildNanos = frame.childNanos;
+        frame.childNanos = 0;
+        long start = System.nanoTime();
+        boolean matched = false;
+        try {
+            matched = test.test(argument, subject);
+            return matched;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            frame.collector.stats(frame.recipe, predicate).add(elapsed - frame.childNanos, matched);
+            frame.childNanos = enclosingChildNanos + elapsed;
+        }
+    }
+
+    /**
+     * Attributes the predicate calls made on this thread to the given recipe, until {@link #exit(Frame)}.
+     *
+     * @return The frame to restore on exit.
+     */
+    static @Nullable Frame enter(Collector collector, String recipe) {
+        Frame previous = CURRENT.get();
+        CURRENT.set(new Frame(collector, recipe));
+        ACTIVE.incrementAndGet();
+        return previous;
+    }
+
+    static void exit(@Nullable Frame previous) {
+        ACTIVE.decrementAndGet();
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    static class Frame {
+        private final Collector collector;
+        private final String recipe;
+
+        /**
+         * The time spent in nested predicate calls of the predicate currently being evaluated on this frame's thread.
+         */
+        private long childNanos;
+    }
+
+    public static class Collector {
+        private final Map<Key, Stats> stats = new ConcurrentHashMap<>();
+
+        public Stats stats(String recipe, @Nullable String predicate) {
+            return stats.computeIfAbsent(new Key(recipe, predicate), k -> new Stats(recipe, predicate));
+        }
+
+        /**
+         * @return The statistics collected since the last call, which are reset.
+         */
+        public List<Stats> drain() {
+            List<Stats> drained = new ArrayList<>(stats.size());
+            for (Key key : stats.keySet()) {
+                Stats s = stats.remove(key);
+                if (s != null) {
+                    drained.add(s);
+                }
+            }
+            return drained;
+        }
+    }
+
+    /**
+     * Statistics of one recipe or predicate, which may be added to by several threads at once.
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Stats {
+        @Getter
+        private final String recipe;
+
+        @Getter
+        @Nullable
+        private final String predicate;
+
+        private long calls;
+        private long nanos;
+        private long matches;
+
+        public synchronized void add(long nanos, boolean matched) {
+            this.calls++;
+            this.nanos += nanos;
+            if (matched) {
+                this.matches++;
+            }
+        }
+
+        public synchronized long getCalls() {
+            return calls;
+        }
+
+        public synchronized long getNanos() {
+            return nanos;
+        }
+
+        public synchronized long getMatches() {
+            return matches;
+        }
+    }
+
+    @Value
+    private static class Key {
+        String recipe;
+
+        @Nullable
+        String predicate;
+    }
+}
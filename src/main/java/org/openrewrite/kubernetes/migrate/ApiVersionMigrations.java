@@ -0,0 +1,238 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.kubernetes.migrate;
+
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+
+import java.util.*;
+
+import static java.util.Arrays.asList;
+
+/**
+ * The apiVersions that Kubernetes has removed, and their replacements, per the
+ * <a href="https://kubernetes.io/docs/reference/using-api/deprecation-guide/">deprecation guide</a>.
+ * <p>
+ * The migrations up to a target Kubernetes version are resolved once into a map from each old apiVersion
+ * (and kind, where the replacement depends on it) to its final replacement, so that chains like
+ * {@code flowcontrol.apiserver.k8s.io/v1beta1 → v1beta2 → v1beta3 → v1} are applied in a single step.
+ */
+public final class ApiVersionMigrations {
+
+    private static final List<Migration> MIGRATIONS = asList(
+            new Migration("1.16", null, "apps/v1beta1", "apps/v1"),
+            new Migration("1.16", null, "apps/v1beta2", "apps/v1"),
+            new Migration("1.16", "NetworkPolicy", "extensions/v1beta1", "networking.k8s.io/v1"),
+
+            new Migration("1.22", null, "admissionregistration.k8s.io/v1beta1", "admissionregistration.k8s.io/v1"),
+            new Migration("1.22", null, "apiextensions.k8s.io/v1beta1", "apiextensions.k8s.io/v1"),
+            new Migration("1.22", null, "apiregistration.k8s.io/v1beta1", "apiregistration.k8s.io/v1"),
+            new Migration("1.22", null, "authentication.k8s.io/v1beta1", "authentication.k8s.io/v1"),
+            new Migration("1.22", null, "authorization.k8s.io/v1beta1", "authorization.k8s.io/v1"),
+            new Migration("1.22", null, "certificates.k8s.io/v1beta1", "certificates.k8s.io/v1"),
+            new Migration("1.22", null, "coordination.k8s.io/v1beta1", "coordination.k8s.io/v1"),
+            new Migration("1.22", null, "networking.k8s.io/v1beta1", "networking.k8s.io/v1"),
+            new Migration("1.22", null, "rbac.authorization.k8s.io/v1beta1", "rbac.authorization.k8s.io/v1"),
+            new Migration("1.22", null, "scheduling.k8s.io/v1beta1", "scheduling.k8s.io/v1"),
+            new Migration("1.22", null, "storage.k8s.io/v1beta1", "storage.k8s.io/v1"),
+
+            new Migration("1.25", null, "batch/v1beta1", "batch/v1"),
+            new Migration("1.25", null, "discovery.k8s.io/v1beta1", "discovery.k8s.io/v1"),
+            new Migration("1.25", null, "events.k8s.io/v1beta1", "events.k8s.io/v1"),
+            new Migration("1.25", null, "autoscaling/v2beta1", "autoscaling/v2"),
+            new Migration("1.25", null, "policy/v1beta1", "policy/v1"),
+            new Migration("1.25", null, "node.k8s.io/v1beta1", "node.k8s.io/v1"),
+
+            new Migration("1.26", null, "flowcontrol.apiserver.k8s.io/v1beta1", "flowcontrol.apiserver.k8s.io/v1beta2"),
+            new Migration("1.26", null, "autoscaling/v2beta2", "autoscaling/v2"),
+
+            new Migration("1.29", null, "flowcontrol.apiserver.k8s.io/v1beta2", "flowcontrol.apiserver.k8s.io/v1beta3"),
+
+            new Migration("1.32", null, "flowcontrol.apiserver.k8s.io/v1beta3", "flowcontrol.apiserver.k8s.io/v1")
+    );
+
+    /**
+     * Removals without a replacement, or whose replacement also needs changes beyond the apiVersion, so they are
+     * reported by {@link #removal} but not migrated, even where another migration of the same apiVersion applies to other kinds. Ingresses
+     * are moved to their new apiVersion by {@link MigrateApiFields}, and only once all of their fields are migrated.
+     */
+    private static final List<Migration> MANUAL_MIGRATIONS = asList(
+            new Migration("1.16", "DaemonSet", "extensions/v1beta1", "apps/v1"),
+            new Migration("1.16", "Deployment", "extensions/v1beta1", "apps/v1"),
+            new Migration("1.16", "ReplicaSet", "extensions/v1beta1", "apps/v1"),
+            new Migration("1.16", "PodSecurityPolicy", "extensions/v1beta1", "policy/v1beta1"),
+            new Migration("1.25", "PodSecurityPolicy", "policy/v1beta1", null),
+            new Migration("1.22", "Ingress", "extensions/v1beta1", "networking.k8s.io/v1"),
+            new Migration("1.22", "Ingress", "networking.k8s.io/v1beta1", "networking.k8s.io/v1")
+    );
+
+    /**
+     * The replacement recorded for the kinds of {@link #MANUAL_MIGRATIONS}, which stops a migration of the same
+     * apiVersion for any kind from applying to them.
+     */
+    private static final String MANUAL = "";
+
+    /**
+     * Final replacements keyed by {@link #key(String, String)}.
+     */
+    private final Map<String, String> replacements;
+
+    private ApiVersionMigrations(Map<String, String> replacements) {
+        this.replacements = replacements;
+    }
+
+    public static List<Migration> all() {
+        return MIGRATIONS;
+    }
+
+    /**
+     * @param kubernetesVersion The Kubernetes version to migrate to, like {@code 1.32}.
+     * @return The migrations of the apiVersions removed in or before that version.
+     */
+    public static ApiVersionMigrations upTo(String kubernetesVersion) {
+        int target = minorVersion(kubernetesVersion);
+        Map<String, String> direct = new HashMap<>();
+        for (Migration migration : MIGRATIONS) {
+            if (minorVersion(migration.getKubernetesVersion()) <= target) {
+                direct.put(key(migration.getOldApiVersion(), migration.getKind()), migration.getNewApiVersion());
+            }
+        }
+
+        for (Migration migration : MANUAL_MIGRATIONS) {
+            if (minorVersion(migration.getKubernetesVersion()) <= target) {
+                direct.put(key(migration.getOldApiVersion(), migration.getKind()), MANUAL);
+            }
+        }
+
+        Map<String, String> resolved = new HashMap<>(direct.size());
+        for (Migration migration : MIGRATIONS) {
+            String key = key(migration.getOldApiVersion(), migration.getKind());
+            String replacement = direct.get(key);
+            if (replacement == null) {
+                continue;
+            }
+            Set<String> seen = new HashSet<>();
+            seen.add(migration.getOldApiVersion());
+            String next;
+            while (seen.add(replacement) && (next = step(direct, replacement, migration.getKind())) != null) {
+                replacement = next;
+            }
+            resolved.put(key, replacement);
+        }
+        for (Map.Entry<String, String> manual : direct.entrySet()) {
+            if (MANUAL.equals(manual.getValue())) {
+                resolved.put(manual.getKey(), MANUAL);
+            }
+        }
+        return new ApiVersionMigrations(resolved);
+    }
+
+    /**
+     * @param apiVersion The apiVersion of a resource.
+     * @param kind       The kind of the resource, if known.
+     * @return The migration away from the apiVersion that applies to the kind, whether or not it is applied
+     * automatically, or {@code null} when Kubernetes has not removed the apiVersion.
+     */
+    public static @Nullable Migration removal(String apiVersion, @Nullable String kind) {
+        Migration removal = null;
+        for (List<Migration> migrations : asList(MIGRATIONS, MANUAL_MIGRATIONS)) {
+            for (Migration migration : migrations) {
+                if (migration.getOldApiVersion().equals(apiVersion) &&
+                    (migration.getKind() == null || migration.getKind().equals(kind)) &&
+                    (removal == null || (removal.getKind() == null && migration.getKind() != null))) {
+                    removal = migration;
+                }
+            }
+        }
+        return removal;
+    }
+
+    /**
+     * @param apiVersion The apiVersion of a resource.
+     * @param kind       The kind of the resource, if known.
+     * @return The apiVersion to replace it with, or {@code null} when it is not removed.
+     */
+    public @Nullable String migrate(String apiVersion, @Nullable String kind) {
+        return step(replacements, apiVersion, kind);
+    }
+
+    private static @Nullable String step(Map<String, String> replacements, String apiVersion, @Nullable String kind) {
+        String replacement = kind == null ? null : replacements.get(key(apiVersion, kind));
+        if (replacement == null) {
+            replacement = replacements.get(apiVersion);
+        }
+        return MANUAL.equals(replacement) ? null : replacement;
+    }
+
+    private static String key(String apiVersion, @Nullable String kind) {
+        return kind == null ? apiVersion : apiVersion + '#' + kind;
+    }
+
+    /**
+     * @return The minor version of a Kubernetes version like {@code 1.32} or {@code v1.32.1}.
+     * @throws IllegalArgumentException when the version is not of the form {@code 1.<minor>}.
+     */
+    public static int minorVersion(String kubernetesVersion) {
+        String v = kubernetesVersion.startsWith("v") ? kubernetesVersion.substring(1) : kubernetesVersion;
+        int dot = v.indexOf('.');
+        if (dot < 0 || !"1".equals(v.substring(0, dot))) {
+            throw new IllegalArgumentException("Expected a Kubernetes version like 1.32, but was " + kubernetesVersion);
+        }
+        int end = v.indexOf('.', dot + 1);
+        try {
+            return Integer.parseInt(end < 0 ? v.substring(dot + 1) : v.substring(dot + 1, end));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Expected a Kubernetes version like 1.32, but was " + kubernetesVersion, e);
+        }
+    }
+
+    /**
+     * @return {@code true} when the version is a Kubernetes version that {@link #minorVersion(String)} accepts.
+     */
+    public static boolean isValidVersion(@Nullable String kubernetesVersion) {
+        if (kubernetesVersion == null) {
+            return false;
+        }
+        try {
+            minorVersion(kubernetesVersion);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    @Value
+    public static class Migration {
+        /**
+         * The Kubernetes version that no longer serves the old apiVersion.
+         */
+        String kubernetesVersion;
+
+        /**
+         * The kind the migration is limited to, when the replacement of the old apiVersion depends on the kind.
+         */
+        @Nullable
+        String kind;
+
+        String oldApiVersion;
+
+        /**
+         * The apiVersion that replaces the old one, or {@code null} when the kind was removed without a replacement.
+         */
+        @Nullable
+        String newApiVersion;
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.kubernetes.migrate;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.kubernetes.tree.ApiVersions;
+import org.openrewrite.yaml.YamlIsoVisitor;
+import org.openrewrite.yaml.YamlParser;
+import org.openrewrite.yaml.tree.Yaml;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * Moves, renames and defaults the fields of resources whose schema changed along with their apiVersion.
+ * Each rule is guarded by the apiVersion and kind at the root of the document, so it must run before
+ * {@link MigrateApiVersions} replaces the apiVersion. Ingresses, which {@link MigrateApiVersions} leaves alone,
+ * get their new apiVersion here once all of their fields are migrated. Rather than visiting every node of a document,
+ * the rules that apply to it edit the entries at their known paths directly.
+ */
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class MigrateApiFields extends Recipe {
+    private static final String INGRESS_API_VERSION = "networking.k8s.io/v1";
+    private static final Yaml.Mapping.Entry INGRESS_PATH_TYPE = parseEntry("pathType: ImplementationSpecific");
+
+    @Option(displayName = "Kubernetes version",
+            description = "The Kubernetes version to migrate to. The fields of every apiVersion removed in or before it are migrated.",
+            example = "1.32")
+    String kubernetesVersion;
+
+    @Option(displayName = "Optional file matcher",
+            description = "Matching files will be modified. This is a glob expression.",
+            required = false,
+            example = "**/pod-*.yml")
+    @Nullable
+    String fileMatcher;
+
+    @Override
+    public String getDisplayName() {
+        return "Migrate fields of removed Kubernetes API versions";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Migrate the fields of resources whose schema changed in the apiVersion that replaces a removed one, " +
+               "like the service backends of `extensions/v1beta1` Ingresses, which are moved to `networking.k8s.io/v1` " +
+               "once all of their fields are migrated. Must run before the apiVersions of other resources are migrated.";
+    }
+
+    @Override
+    public Validated<Object> validate() {
+        return super.validate().and(
+                Validated.test("kubernetesVersion",
+                        "Kubernetes version must be of the form 1.<minor>.",
+                        kubernetesVersion,
+                        ApiVersionMigrations::isValidVersion));
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        int target = ApiVersionMigrations.minorVersion(kubernetesVersion);
+        YamlIsoVisitor<ExecutionContext> visitor = new YamlIsoVisitor<ExecutionContext>() {
+            @Override
+            public Yaml.Document visitDocument(Yaml.Document document, ExecutionContext ctx) {
+                if (!(document.getBlock() instanceof Yaml.Mapping)) {
+                    return document;
+                }
+                Yaml.Mapping root = (Yaml.Mapping) document.getBlock();
+                String apiVersion = MigrateApiVersions.scalarValue(root, "apiVersion");
+                if (apiVersion == null) {
+                    return document;
+                }
+                String kind = MigrateApiVersions.scalarValue(root, "kind");
+
+                Yaml.Mapping m = root;
+                if (target >= 22 && "Ingress".equals(kind) &&
+                    ("extensions/v1beta1".equals(apiVersion) || "networking.k8s.io/v1beta1".equals(apiVersion))) {
+                    IngressMigration ingress = new IngressMigration();
+                    Yaml.Mapping migrated = mapValue(m, "spec", ingress::migrateSpec);
+                    if (ingress.complete) {
+                        m = ApiVersions.withApiVersion(migrated, v -> INGRESS_API_VERSION);
+                    }
+                }
+                if (target >= 29 && apiVersion.startsWith("flowcontrol.apiserver.k8s.io/") &&
+                    (kind == null || "PriorityLevelConfiguration".equals(kind))) {
+                    m = mapValue(m, "spec", spec -> mapValue(spec, "limited", limited ->
+                            rename(limited, "assuredConcurrencyShares", "nominalConcurrencyShares")));
+                }
+                return m == root ? document : document.withBlock(m);
+            }
+        };
+        return fileMatcher != null ? Preconditions.check(new FindSourceFiles(fileMatcher), visitor) : visitor;
+    }
+
+    /**
+     * {@code spec.backend} becomes {@code spec.defaultBackend}, and every backend refers to its service
+     * as {@code service.name} and {@code service.port.number} or {@code service.port.name}. Paths default
+     * to the {@code ImplementationSpecific} path type, which is what they were matched with before it was required.
+     * Since a partly migrated Ingress is valid in neither apiVersion, the migration is only {@link #complete}
+     * when every backend and path could be migrated.
+     */
+    private static class IngressMigration {
+        boolean complete = true;
+
+        Yaml.Mapping migrateSpec(Yaml.Mapping spec) {
+            if (entry(spec, "backend") != null) {
+                if (entry(spec, "defaultBackend") != null) {
+                    complete = false;
+                    return spec;
+                }
+                spec = spec.withEntries(ListUtils.map(spec.getEntries(), e ->
+                        "backend".equals(e.getKey().getValue()) ? renameKey(migrateBackend(e), "defaultBackend") : e));
+            }
+            return mapSequence(spec, "rules", rule -> mapValue(rule, "http", http -> mapSequence(http, "paths", path -> {
+                Yaml.Mapping p = path.withEntries(ListUtils.map(path.getEntries(), e ->
+                        "backend".equals(e.getKey().getValue()) ? migrateBackend(e) : e));
+                return entry(p, "pathType") == null ? addPathType(p) : p;
+            })));
+        }
+
+        private Yaml.Mapping.Entry migrateBackend(Yaml.Mapping.Entry backendEntry) {
+            if (!(backendEntry.getValue() instanceof Yaml.Mapping)) {
+                complete = false;
+                return backendEntry;
+            }
+            Yaml.Mapping backend = (Yaml.Mapping) backendEntry.getValue();
+            Yaml.Mapping.Entry serviceName = entry(backend, "serviceName");
+            Yaml.Mapping.Entry servicePort = entry(backend, "servicePort");
+            if (serviceName == null && servicePort == null && entry(backend, "resource") != null) {
+                // a resource backend is unchanged
+                return backendEntry;
+            }
+            if (serviceName == null || !(serviceName.getValue() instanceof Yaml.Scalar) ||
+                !(serviceName.getKey() instanceof Yaml.Scalar) || !serviceName.getPrefix().contains("\n") ||
+                backend.getAnchor() != null || servicePort == null ||
+                !(servicePort.getKey() instanceof Yaml.Scalar) || !(servicePort.getValue() instanceof Yaml.Scalar)) {
+                // flow style and anchored backends, and backends without a service port, which v1 requires
+                complete = false;
+                return backendEntry;
+            }
+
+            String indent = indentOf(serviceName.getPrefix());
+            String unit = backendEntry.getPrefix().contains("\n") && indent.length() > indentOf(backendEntry.getPrefix()).length() ?
+                    indent.substring(indentOf(backendEntry.getPrefix()).length()) : "  ";
+            Yaml.Scalar port = (Yaml.Scalar) servicePort.getValue();
+            boolean number = isNumber(port.getValue());
+            if (number) {
+                // a quoted number would be a port name
+                port = port.withStyle(Yaml.Scalar.Style.PLAIN);
+            }
+
+            // the service mapping is built from copies of the backend and its entries, in place of parsing a snippet
+            String nested = "\n" + indent + unit;
+            Yaml.Mapping.Entry portEntry = copy(servicePort, "port", nested).withValue(
+                    copy(backend, copy(servicePort, number ? "number" : "name", nested + unit).withValue(port)));
+            Yaml.Mapping.Entry migrated = copy(serviceName, "service", serviceName.getPrefix()).withValue(
+                    copy(backend, copy(serviceName, "name", nested), portEntry));
+
+            return backendEntry.withValue(backend.withEntries(ListUtils.map(backend.getEntries(), e -> {
+                if (e == serviceName) {
+                    return migrated;
+                }
+                return e == servicePort ? null : e;
+            })));
+        }
+
+        private Yaml.Mapping addPathType(Yaml.Mapping path) {
+            String prefix = null;
+            for (Yaml.Mapping.Entry e : path.getEntries()) {
+                if (e.getPrefix().contains("\n")) {
+                    prefix = e.getPrefix();
+                    break;
+                }
+            }
+            if (prefix == null) {
+                // a path with a single entry, which follows the dash of its sequence entry
+                complete = false;
+                return path;
+            }
+            Yaml.Mapping.Entry pathType = copy(INGRESS_PATH_TYPE, "pathType", prefix)
+                    .withValue(INGRESS_PATH_TYPE.getValue().withId(Tree.randomId()));
+            List<Yaml.Mapping.Entry> entries = new ArrayList<>(path.getEntries().size() + 1);
+            boolean added = false;
+            for (Yaml.Mapping.Entry e : path.getEntries()) {
+                entries.add(e);
+                if (!added && "path".equals(e.getKey().getValue())) {
+                    entries.add(pathType);
+                    added = true;
+                }
+            }
+            if (!added) {
+                entries.add(pathType);
+            }
+            return path.withEntries(entries);
+        }
+    }
+
+    private static Yaml.Mapping rename(Yaml.Mapping mapping, String oldKey, String newKey) {
+        if (entry(mapping, newKey) != null) {
+            return mapping;
+        }
+        return mapping.withEntries(ListUtils.map(mapping.getEntries(), e ->
+                oldKey.equals(e.getKey().getValue()) ? renameKey(e, newKey) : e));
+    }
+
+    private static Yaml.Mapping.Entry renameKey(Yaml.Mapping.Entry entry, String newKey) {
+        return entry.getKey() instanceof Yaml.Scalar ? entry.withKey(((Yaml.Scalar) entry.getKey()).withValue(newKey)) : entry;
+    }
+
+    /**
+     * A copy of a block style entry, with a new key and prefix, to build new entries from without parsing them.
+     */
+    private static Yaml.Mapping.Entry copy(Yaml.Mapping.Entry entry, String key, String prefix) {
+        Yaml.Scalar k = (Yaml.Scalar) entry.getKey();
+        return entry.withId(Tree.randomId())
+                .withPrefix(prefix)
+                .withKey(k.withId(Tree.randomId()).withValue(key));
+    }
+
+    /**
+     * A copy of a block style mapping with other entries.
+     */
+    private static Yaml.Mapping copy(Yaml.Mapping mapping, Yaml.Mapping.Entry... entries) {
+        return mapping.withId(Tree.randomId()).withEntries(Arrays.asList(entries));
+    }
+
+    private static Yaml.Mapping mapValue(Yaml.Mapping mapping, String key, UnaryOperator<Yaml.Mapping> map) {
+        return mapping.withEntries(ListUtils.map(mapping.getEntries(), e ->
+                key.equals(e.getKey().getValue()) && e.getValue() instanceof Yaml.Mapping ?
+                        e.withValue(map.apply((Yaml.Mapping) e.getValue())) : e));
+    }
+
+    private static Yaml.Mapping mapSequence(Yaml.Mapping mapping, String key, UnaryOperator<Yaml.Mapping> map) {
+        return mapping.withEntries(ListUtils.map(mapping.getEntries(), e -> {
+            if (!key.equals(e.getKey().getValue()) || !(e.getValue() instanceof Yaml.Sequence)) {
+                return e;
+            }
+            Yaml.Sequence sequence = (Yaml.Sequence) e.getValue();
+            return e.withValue(sequence.withEntries(ListUtils.map(sequence.getEntries(), se ->
+                    se.getBlock() instanceof Yaml.Mapping ? se.withBlock(map.apply((Yaml.Mapping) se.getBlock())) : se)));
+        }));
+    }
+
+    private static Yaml.Mapping.@Nullable Entry entry(Yaml.Mapping mapping, String key) {
+        for (Yaml.Mapping.Entry e : mapping.getEntries()) {
+            if (key.equals(e.getKey().getValue())) {
+                return e;
+            }
+        }
+        return null;
+    }
+
+    private static Yaml.Mapping.Entry parseEntry(String yaml) {
+        Yaml.Documents documents = (Yaml.Documents) YamlParser.builder().build().parse(yaml).findFirst()
+                .orElseThrow(() -> new IllegalStateException("Unable to parse " + yaml));
+        return ((Yaml.Mapping) documents.getDocuments().get(0).getBlock()).getEntries().get(0);
+    }
+
+    private static String indentOf(String prefix) {
+        return prefix.substring(prefix.lastIndexOf('\n') + 1);
+    }
+
+    private static boolean isNumber(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (!Character.isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
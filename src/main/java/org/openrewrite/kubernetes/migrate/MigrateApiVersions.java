@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.kubernetes.migrate;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.kubernetes.tree.ApiVersions;
+import org.openrewrite.yaml.YamlIsoVisitor;
+import org.openrewrite.yaml.tree.Yaml;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class MigrateApiVersions extends Recipe {
+
+    @Option(displayName = "Kubernetes version",
+            description = "The Kubernetes version to migrate to. Every apiVersion removed in or before it is replaced.",
+            example = "1.32")
+    String kubernetesVersion;
+
+    @Option(displayName = "Optional file matcher",
+            description = "Matching files will be modified. This is a glob expression.",
+            required = false,
+            example = "**/pod-*.yml")
+    @Nullable
+    String fileMatcher;
+
+    @Override
+    public String getDisplayName() {
+        return "Migrate removed Kubernetes API versions";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Replace the apiVersion of resources whose API has been removed by a Kubernetes version with its final replacement, " +
+               "following chains of replacements across versions in a single step.";
+    }
+
+    @Override
+    public Validated<Object> validate() {
+        return super.validate().and(
+                Validated.test("kubernetesVersion",
+                        "Kubernetes version must be of the form 1.<minor>.",
+                        kubernetesVersion,
+                        ApiVersionMigrations::isValidVersion));
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        ApiVersionMigrations migrations = ApiVersionMigrations.upTo(kubernetesVersion);
+        YamlIsoVisitor<ExecutionContext> visitor = new YamlIsoVisitor<ExecutionContext>() {
+            @Override
+            public Yaml.Document visitDocument(Yaml.Document document, ExecutionContext ctx) {
+                if (!(document.getBlock() instanceof Yaml.Mapping)) {
+                    return document;
+                }
+                Yaml.Mapping root = (Yaml.Mapping) document.getBlock();
+                String kind = scalarValue(root, "kind");
+                Yaml.Mapping m = ApiVersions.withApiVersion(root, apiVersion -> migrations.migrate(apiVersion, kind));
+                return m == root ? document : document.withBlock(m);
+            }
+        };
+        return fileMatcher != null ? Preconditions.check(new FindSourceFiles(fileMatcher), visitor) : visitor;
+    }
+
+    static @Nullable String scalarValue(Yaml.Mapping mapping, String key) {
+        for (Yaml.Mapping.Entry e : mapping.getEntries()) {
+            if (key.equals(e.getKey().getValue()) && e.getValue() instanceof Yaml.Scalar) {
+                return ((Yaml.Scalar) e.getValue()).getValue();
+            }
+        }
+        return null;
+    }
+}
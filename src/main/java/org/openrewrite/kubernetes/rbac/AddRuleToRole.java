@@ -95,10 +95,18 @@ public class AddRuleToRole extends Recipe {
             private final PathMatcher globMatcher = FileSystems.getDefault().getPathMatcher("glob:" + rbacResourceName);
             private final Yaml.Sequence.Entry newSequenceEntry = generateSequence();
 
+            @Override
+            public Yaml visitDocument(Yaml.Document document, ExecutionContext ctx) {
+                if (!K8S.inKind(rbacResourceType, getCursor())) {
+                    return document;
+                }
+                return super.visitDocument(document, ctx);
+            }
+
             @Override
             public Yaml.Mapping.Entry visitMappingEntry(Yaml.Mapping.Entry entry, ExecutionContext ctx) {
                 Cursor c = getCursor();
-                if (K8S.inKind(rbacResourceType, c) && K8S.Metadata.isMetadata(c)) {
+                if (K8S.Metadata.isMetadata(c)) {
                     K8S.Metadata meta = K8S.asMetadata((Yaml.Mapping) entry.getValue());
                     Yaml.Document document = c.dropParentUntil(org.openrewrite.yaml.tree.Yaml.Document.class::isInstance).getValue();
                     if (globMatcher.matches(Paths.get(meta.getName())) && isSupportedAPI(document)) {
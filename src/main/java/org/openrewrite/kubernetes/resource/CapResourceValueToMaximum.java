@@ -24,7 +24,6 @@ import org.openrewrite.yaml.tree.Yaml;
 
 import static org.openrewrite.kubernetes.tree.K8S.ResourceLimits.inLimits;
 import static org.openrewrite.kubernetes.tree.K8S.ResourceLimits.inRequests;
-import static org.openrewrite.kubernetes.tree.K8S.asResourceLimits;
 
 @Value
 @EqualsAndHashCode(callSuper = false)
@@ -66,13 +65,13 @@ public class CapResourceValueToMaximum extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        ResourceLimit limit = new ResourceLimit(resourceLimit);
+        ResourceLimit limit = ResourceLimit.of(resourceLimit);
 
         YamlIsoVisitor<ExecutionContext> visitor = new YamlIsoVisitor<ExecutionContext>() {
             @Override
             public Yaml.Scalar visitScalar(Yaml.Scalar scalar, ExecutionContext ctx) {
                 Cursor c = getCursor();
-                if (((inLimits(resourceType, c) && "limits".equals(resourceValueType)) || (inRequests(resourceType, c) && "requests".equals(resourceValueType))) && asResourceLimits(scalar).getValue().exceeds(limit.getValue())) {
+                if (((inLimits(resourceType, c) && "limits".equals(resourceValueType)) || (inRequests(resourceType, c) && "requests".equals(resourceValueType))) && ResourceLimit.of(scalar.getValue()).exceeds(limit.getValue())) {
                     return scalar.withValue(limit.convertToUnit(scalar));
                 }
                 return super.visitScalar(scalar, ctx);
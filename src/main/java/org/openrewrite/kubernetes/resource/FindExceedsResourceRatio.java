@@ -19,6 +19,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
+import org.openrewrite.kubernetes.tree.JsonPathMatchers;
 import org.openrewrite.marker.SearchResult;
 import org.openrewrite.yaml.JsonPathMatcher;
 import org.openrewrite.yaml.YamlIsoVisitor;
@@ -62,6 +63,8 @@ public class FindExceedsResourceRatio extends Recipe {
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         String result = "exceeds max " + resourceType + " limits/requests ratio of " + ratioLimit;
         int resourceLimit = Integer.parseInt(this.ratioLimit);
+        JsonPathMatcher requestsMatcher = JsonPathMatchers.compile(".requests." + resourceType);
+        JsonPathMatcher limitsMatcher = JsonPathMatchers.compile(".limits." + resourceType);
 
         YamlIsoVisitor<ExecutionContext> visitor = new YamlIsoVisitor<ExecutionContext>() {
             @Override
@@ -69,9 +72,6 @@ public class FindExceedsResourceRatio extends Recipe {
                 Yaml.Mapping.Entry e = super.visitMappingEntry(entry, ctx);
                 Cursor c = getCursor();
                 if (inResources(c)) {
-                    JsonPathMatcher requestsMatcher = new JsonPathMatcher(".requests." + resourceType);
-                    JsonPathMatcher limitsMatcher = new JsonPathMatcher(".limits." + resourceType);
-
                     return requestsMatcher.find(c)
                             .flatMap(req -> limitsMatcher.find(c)
                                     .map(lim -> {
@@ -79,13 +79,13 @@ public class FindExceedsResourceRatio extends Recipe {
                                         if (reqValStr == null) {
                                             return e;
                                         }
-                                        ResourceLimit reqLimit = new ResourceLimit(reqValStr);
+                                        ResourceLimit reqLimit = ResourceLimit.of(reqValStr);
 
                                         String limValStr = valueFromEntry(lim);
                                         if (limValStr == null) {
                                             return e;
                                         }
-                                        ResourceLimit limLimit = new ResourceLimit(limValStr);
+                                        ResourceLimit limLimit = ResourceLimit.of(limValStr);
 
                                         if (reqLimit.exceedsRatio(resourceLimit, limLimit.getValue())) {
                                             return SearchResult.found(e, result);
@@ -25,7 +25,6 @@ import org.openrewrite.yaml.tree.Yaml;
 
 import static org.openrewrite.kubernetes.tree.K8S.ResourceLimits.inLimits;
 import static org.openrewrite.kubernetes.tree.K8S.ResourceLimits.inRequests;
-import static org.openrewrite.kubernetes.tree.K8S.asResourceLimits;
 
 @Value
 @EqualsAndHashCode(callSuper = false)
@@ -67,14 +66,14 @@ public class FindExceedsResourceValue extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        ResourceLimit limit = new ResourceLimit(resourceLimit);
+        ResourceLimit limit = ResourceLimit.of(resourceLimit);
         String result = "exceeds maximum of " + limit.getValue();
 
         YamlIsoVisitor<ExecutionContext> visitor = new YamlIsoVisitor<ExecutionContext>() {
             @Override
             public Yaml.Scalar visitScalar(Yaml.Scalar scalar, ExecutionContext ctx) {
                 Cursor c = getCursor();
-                if (((inLimits(resourceType, c) && "limits".equals(resourceValueType)) || (inRequests(resourceType, c) && "requests".equals(resourceValueType))) && asResourceLimits(scalar).getValue().exceeds(limit.getValue())) {
+                if (((inLimits(resourceType, c) && "limits".equals(resourceValueType)) || (inRequests(resourceType, c) && "requests".equals(resourceValueType))) && ResourceLimit.of(scalar.getValue()).exceeds(limit.getValue())) {
                     return SearchResult.found(scalar, result);
                 }
                 return super.visitScalar(scalar, ctx);
@@ -16,21 +16,50 @@
 package org.openrewrite.kubernetes.resource;
 
 import lombok.EqualsAndHashCode;
+import org.jspecify.annotations.Nullable;
 import org.openrewrite.yaml.tree.Yaml;
 
-import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * An immutable Kubernetes quantity, like {@code 500m} or {@code 1Gi}.
+ */
 @EqualsAndHashCode
 public class ResourceLimit {
+
+    /**
+     * Manifests repeat the same few quantities over and over, so parsed quantities are shared,
+     * up to a bound that protects against unbounded growth on very large repositories.
+     */
+    private static final int MAX_CACHED = 4096;
+
+    private static final Map<String, ResourceLimit> CACHE = new ConcurrentHashMap<>();
+
     private final ResourceValue value;
 
     public ResourceLimit(String value) {
         this.value = new ResourceValue(value);
     }
 
+    /**
+     * @param value A quantity in the Kubernetes quantity format.
+     * @return The parsed quantity, shared with other callers that parsed the same literal.
+     * @throws NumberFormatException if the quantity is not in the Kubernetes quantity format.
+     */
+    public static ResourceLimit of(String value) {
+        ResourceLimit limit = CACHE.get(value);
+        if (limit == null) {
+            limit = new ResourceLimit(value);
+            if (CACHE.size() < MAX_CACHED) {
+                CACHE.putIfAbsent(value, limit);
+            }
+        }
+        return limit;
+    }
+
     public String convertToUnit(Yaml.Scalar scalar) {
-        ResourceValue rv = new ResourceValue(scalar.getValue());
-        return value.convertTo(rv.getUnit()).toString();
+        return value.convertTo(of(scalar.getValue()).getValue().getUnit()).toString();
     }
 
     public ResourceValue getValue() {
@@ -38,141 +67,392 @@ public class ResourceLimit {
     }
 
     public boolean exceeds(ResourceValue rv) {
-        return value.getAbsoluteValue() > rv.getAbsoluteValue();
+        return value.compareTo(rv) > 0;
     }
 
     public boolean exceedsRatio(int ratio, ResourceValue rv) {
-        return ((double) rv.getAbsoluteValue() / (double) value.getAbsoluteValue()) > ratio;
+        return rv.compareTo(value.times(ratio)) > 0;
     }
 
-    public static class ResourceValue {
+    /**
+     * A Kubernetes quantity, held exactly as whole base units and thousandths of a base unit, so that
+     * quantities in any unit compare without floating point arithmetic. Quantities beyond the range of a
+     * {@code long} of base units saturate.
+     */
+    @EqualsAndHashCode
+    public static class ResourceValue implements Comparable<ResourceValue> {
+        private static final long[] POWERS_OF_TEN = {
+                1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+                1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L,
+                100_000_000_000_000L, 1_000_000_000_000_000L, 10_000_000_000_000_000L,
+                100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+        };
+
         private final Unit unit;
+
+        /**
+         * The whole base units of the quantity, rounded towards negative infinity.
+         */
         private final long value;
 
-        public ResourceValue(String resourceLimit) {
-            int unitLen = 1;
-            if (resourceLimit.endsWith("i")) {
-                unitLen = 2;
-            }
+        /**
+         * The thousandths of a base unit in addition to {@link #value}, from 0 to 999.
+         */
+        private final int milli;
 
-            this.unit = ResourceValue.Unit.fromString(resourceLimit.substring(resourceLimit.length() - unitLen));
-            this.value = unit.toAbsoluteValue(Long.parseLong(resourceLimit.substring(0, resourceLimit.length() - unitLen)));
+        /**
+         * @param resourceLimit A quantity in the Kubernetes quantity format, i.e. a signed decimal number,
+         *                      optionally with a fraction, followed by a decimal ({@code m}, {@code k}, {@code M}, ...),
+         *                      binary ({@code Ki}, {@code Mi}, ...) or exponent ({@code e3}) suffix, or no suffix at all.
+         * @throws NumberFormatException if the quantity is not in the Kubernetes quantity format.
+         */
+        public ResourceValue(String resourceLimit) {
+            this(parse(resourceLimit));
         }
 
         public ResourceValue(long value, Unit unit) {
+            this(value, 0, unit);
+        }
+
+        private ResourceValue(ResourceValue parsed) {
+            this(parsed.value, parsed.milli, parsed.unit);
+        }
+
+        private ResourceValue(long value, int milli, Unit unit) {
             this.value = value;
+            this.milli = milli;
             this.unit = unit;
         }
 
+        /**
+         * @return The quantity in base units, rounded up.
+         */
         public long getAbsoluteValue() {
-            return value;
+            return milli > 0 && value < Long.MAX_VALUE ? value + 1 : value;
+        }
+
+        /**
+         * @return The quantity in thousandths of a base unit.
+         */
+        public long getMilliValue() {
+            return saturatedAdd(saturatedMultiply(value, 1000), milli);
         }
 
+        /**
+         * @param destUnit The unit to express the quantity in.
+         * @return The same quantity in the destination unit or, when it is not a whole number of the destination
+         * unit, in this quantity's own unit or else the largest finer unit that represents it exactly.
+         */
         public ResourceValue convertTo(Unit destUnit) {
-            return new ResourceValue(value, destUnit);
+            Unit exact = isWholeNumberOf(destUnit) || !isWholeNumberOf(unit) ? exactUnit(destUnit) : unit;
+            return new ResourceValue(value, milli, exact);
         }
 
         public Unit getUnit() {
             return unit;
         }
 
+        ResourceValue times(int factor) {
+            long millis = (long) milli * factor;
+            long whole = saturatedAdd(saturatedMultiply(value, factor), Math.floorDiv(millis, 1000));
+            return new ResourceValue(whole, (int) Math.floorMod(millis, 1000), unit);
+        }
+
+        @Override
+        public int compareTo(ResourceValue other) {
+            int c = Long.compare(value, other.value);
+            return c != 0 ? c : Integer.compare(milli, other.milli);
+        }
+
         @Override
         public String toString() {
-            return unit.fromAbsoluteValue(value) + unit.toString();
+            Unit exact = exactUnit(unit);
+            if (exact == Unit.Milli) {
+                return getMilliValue() + exact.toString();
+            }
+            return value / exact.factor + exact.toString();
+        }
+
+        private boolean isWholeNumberOf(Unit u) {
+            return u == Unit.Milli || (milli == 0 && value % u.factor == 0);
+        }
+
+        /**
+         * @return The given unit when this quantity is a whole number of it, and otherwise the largest finer unit
+         * of the same (decimal or binary) kind that is, so that a fractional quantity is never truncated.
+         */
+        private Unit exactUnit(Unit preferred) {
+            if (isWholeNumberOf(preferred)) {
+                return preferred;
+            } else if (milli != 0) {
+                return Unit.Milli;
+            }
+            Unit exact = Unit.None;
+            for (Unit u : Unit.UNITS) {
+                if ((u.shift == 0) == (preferred.shift == 0) && u.factor < preferred.factor &&
+                    u.factor > exact.factor && isWholeNumberOf(u)) {
+                    exact = u;
+                }
+            }
+            return exact;
+        }
+
+        /**
+         * Parses a quantity in a single pass over its characters. Digits are accumulated into a {@code long}
+         * and the decimal point only contributes to the exponent, so the conversion to base units is an exact
+         * integer multiplication (or shift, for binary suffixes) followed by at most one division. As in
+         * Kubernetes, precision beyond a thousandth of a base unit is rounded up.
+         */
+        private static ResourceValue parse(String quantity) {
+            int length = quantity.length();
+            int i = 0;
+            boolean negative = false;
+            if (i < length && (quantity.charAt(i) == '+' || quantity.charAt(i) == '-')) {
+                negative = quantity.charAt(i) == '-';
+                i++;
+            }
+
+            long digits = 0;
+            int fractionDigits = 0;
+            boolean anyDigits = false;
+            boolean inFraction = false;
+            boolean saturated = false;
+            boolean truncated = false;
+            for (; i < length; i++) {
+                char c = quantity.charAt(i);
+                if (c >= '0' && c <= '9') {
+                    anyDigits = true;
+                    if (digits <= (Long.MAX_VALUE - 9) / 10) {
+                        digits = digits * 10 + (c - '0');
+                        if (inFraction) {
+                            fractionDigits++;
+                        }
+                    } else if (inFraction) {
+                        truncated |= c != '0';
+                    } else {
+                        saturated = true;
+                    }
+                } else if (c == '.' && !inFraction) {
+                    inFraction = true;
+                } else {
+                    break;
+                }
+            }
+            if (!anyDigits) {
+                throw new NumberFormatException("Invalid quantity '" + quantity + "'");
+            }
+            if (truncated) {
+                digits++;
+            }
+
+            Unit unit;
+            int exponent = 0;
+            int shift = 0;
+            int suffixLength = length - i;
+            char first = suffixLength > 0 ? quantity.charAt(i) : 0;
+            if (suffixLength == 0) {
+                unit = Unit.None;
+            } else if (suffixLength == 2 && first == 'E' && quantity.charAt(i + 1) == 'i') {
+                shift = 60;
+                unit = Unit.Pi;
+            } else if ((first == 'e' || first == 'E') && suffixLength > 1) {
+                exponent = parseExponent(quantity, i + 1);
+                unit = Unit.ofExponent(exponent);
+            } else if (suffixLength == 1 && first == 'n') {
+                exponent = -9;
+                unit = Unit.Milli;
+            } else if (suffixLength == 1 && first == 'u') {
+                exponent = -6;
+                unit = Unit.Milli;
+            } else if (suffixLength == 1 && first == 'E') {
+                exponent = 18;
+                unit = Unit.P;
+            } else {
+                unit = Unit.fromSuffix(quantity, i);
+                if (unit == null) {
+                    throw new NumberFormatException("Invalid quantity suffix in '" + quantity + "'");
+                }
+                exponent = unit.exponent;
+                shift = unit.shift;
+            }
+
+            long whole;
+            int milli = 0;
+            if (saturated) {
+                whole = Long.MAX_VALUE;
+            } else {
+                long scaled = shift > 0 ? saturatedShift(digits, shift) : digits;
+                int scale = exponent - fractionDigits;
+                if (scale >= 0) {
+                    whole = scale < POWERS_OF_TEN.length ?
+                            saturatedMultiply(scaled, POWERS_OF_TEN[scale]) :
+                            (scaled == 0 ? 0 : Long.MAX_VALUE);
+                } else {
+                    int divisorExponent = -scale;
+                    while (divisorExponent >= POWERS_OF_TEN.length) {
+                        scaled = ceilDiv(scaled, 10);
+                        divisorExponent--;
+                    }
+                    long divisor = POWERS_OF_TEN[divisorExponent];
+                    whole = scaled / divisor;
+                    long remainder = scaled % divisor;
+                    milli = (int) (divisor >= 1000 ? ceilDiv(remainder, divisor / 1000) : remainder * (1000 / divisor));
+                    if (milli == 1000) {
+                        whole++;
+                        milli = 0;
+                    }
+                }
+            }
+
+            if (unit == Unit.None && milli != 0) {
+                unit = Unit.Milli;
+            }
+            if (negative) {
+                if (milli > 0) {
+                    whole = -whole - 1;
+                    milli = 1000 - milli;
+                } else {
+                    whole = -whole;
+                }
+            }
+            return new ResourceValue(whole, milli, unit);
+        }
+
+        private static int parseExponent(String quantity, int start) {
+            int i = start;
+            boolean negative = false;
+            if (quantity.charAt(i) == '+' || quantity.charAt(i) == '-') {
+                negative = quantity.charAt(i) == '-';
+                i++;
+            }
+            if (i == quantity.length()) {
+                throw new NumberFormatException("Invalid quantity exponent in '" + quantity + "'");
+            }
+            int exponent = 0;
+            for (; i < quantity.length(); i++) {
+                char c = quantity.charAt(i);
+                if (c < '0' || c > '9') {
+                    throw new NumberFormatException("Invalid quantity exponent in '" + quantity + "'");
+                }
+                // anything beyond this is saturated or rounded to zero anyway
+                exponent = Math.min(exponent * 10 + (c - '0'), 1000);
+            }
+            return negative ? -exponent : exponent;
+        }
+
+        private static long ceilDiv(long dividend, long divisor) {
+            return dividend / divisor + (dividend % divisor == 0 ? 0 : 1);
+        }
+
+        private static long saturatedShift(long value, int shift) {
+            return value > (Long.MAX_VALUE >> shift) ? Long.MAX_VALUE : value << shift;
+        }
+
+        private static long saturatedMultiply(long a, long b) {
+            long result = a * b;
+            if (a != 0 && (result / a != b || (a == -1 && b == Long.MIN_VALUE))) {
+                return (a < 0) == (b < 0) ? Long.MAX_VALUE : Long.MIN_VALUE;
+            }
+            return result;
+        }
+
+        private static long saturatedAdd(long a, long b) {
+            long result = a + b;
+            if (((a ^ result) & (b ^ result)) < 0) {
+                return a < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+            }
+            return result;
         }
 
         public enum Unit {
-            K,
-            M,
-            G,
-            T,
-            P,
-            Ki,
-            Mi,
-            Gi,
-            Ti,
-            Pi;
+            Milli("m", -3, 0),
+            None("", 0, 0),
+            K("k", 3, 0),
+            M("M", 6, 0),
+            G("G", 9, 0),
+            T("T", 12, 0),
+            P("P", 15, 0),
+            Ki("Ki", 0, 10),
+            Mi("Mi", 0, 20),
+            Gi("Gi", 0, 30),
+            Ti("Ti", 0, 40),
+            Pi("Pi", 0, 50);
+
+            private static final Unit[] UNITS = values();
+
+            private final String suffix;
+
+            /**
+             * The power of ten of a decimal unit, or zero for a binary unit.
+             */
+            private final int exponent;
+
+            /**
+             * The power of two of a binary unit, or zero for a decimal unit.
+             */
+            private final int shift;
+
+            /**
+             * The number of base units in one of this unit, or 1 for {@link #Milli}.
+             */
+            private final long factor;
+
+            Unit(String suffix, int exponent, int shift) {
+                this.suffix = suffix;
+                this.exponent = exponent;
+                this.shift = shift;
+                long f = 1L << shift;
+                for (int i = 0; i < exponent; i++) {
+                    f *= 10;
+                }
+                this.factor = f;
+            }
 
             @Override
             public String toString() {
-                return this == K ? "k" : super.toString();
+                return suffix;
             }
 
+            /**
+             * @param s A quantity suffix, which is case-sensitive as in Kubernetes: {@code m} is milli, {@code M} is mega.
+             * @throws IllegalArgumentException if the suffix is not a unit.
+             */
             public static Unit fromString(String s) {
-                switch (s.toLowerCase(Locale.ROOT)) {
-                    case "k":
-                        return K;
-                    case "m":
-                        return M;
-                    case "g":
-                        return G;
-                    case "t":
-                        return T;
-                    case "p":
-                        return P;
-                    case "ki":
-                        return Ki;
-                    case "mi":
-                        return Mi;
-                    case "gi":
-                        return Gi;
-                    case "ti":
-                        return Ti;
-                    case "pi":
-                        return Pi;
-                    default:
-                        return M;
+                Unit unit = fromSuffix(s, 0);
+                if (unit == null) {
+                    throw new IllegalArgumentException("Unknown quantity unit '" + s + "'");
                 }
+                return unit;
             }
 
-            public long fromAbsoluteValue(long absoluteValue) {
-                switch (this) {
-                    case M:
-                        return (long) (absoluteValue / Math.pow(1000, 2));
-                    case G:
-                        return (long) (absoluteValue / Math.pow(1000, 3));
-                    case T:
-                        return (long) (absoluteValue / Math.pow(1000, 4));
-                    case P:
-                        return (long) (absoluteValue / Math.pow(1000, 5));
-                    case Ki:
-                        return absoluteValue / 1024;
-                    case Mi:
-                        return (long) (absoluteValue / Math.pow(1024, 2));
-                    case Gi:
-                        return (long) (absoluteValue / Math.pow(1024, 3));
-                    case Ti:
-                        return (long) (absoluteValue / Math.pow(1024, 4));
-                    case Pi:
-                        return (long) (absoluteValue / Math.pow(1024, 5));
-                    default:
-                        return absoluteValue / 1000;
+            private static @Nullable Unit fromSuffix(String quantity, int start) {
+                int length = quantity.length() - start;
+                for (Unit unit : UNITS) {
+                    if (unit.suffix.length() == length && quantity.startsWith(unit.suffix, start)) {
+                        return unit;
+                    }
+                }
+                return null;
+            }
+
+            private static Unit ofExponent(int exponent) {
+                for (Unit unit : UNITS) {
+                    if (unit.shift == 0 && unit.exponent == exponent) {
+                        return unit;
+                    }
                 }
+                return exponent < 0 ? Milli : None;
+            }
+
+            public long fromAbsoluteValue(long absoluteValue) {
+                return this == Milli ? saturatedMultiply(absoluteValue, 1000) : absoluteValue / factor;
             }
 
             public long toAbsoluteValue(long relativeValue) {
-                switch (this) {
-                    case M:
-                        return (long) (relativeValue * Math.pow(1000, 2));
-                    case G:
-                        return (long) (relativeValue * Math.pow(1000, 3));
-                    case T:
-                        return (long) (relativeValue * Math.pow(1000, 4));
-                    case P:
-                        return (long) (relativeValue * Math.pow(1000, 5));
-                    case Ki:
-                        return relativeValue * 1024;
-                    case Mi:
-                        return (long) (relativeValue * Math.pow(1024, 2));
-                    case Gi:
-                        return (long) (relativeValue * Math.pow(1024, 3));
-                    case Ti:
-                        return (long) (relativeValue * Math.pow(1024, 4));
-                    case Pi:
-                        return (long) (relativeValue * Math.pow(1024, 5));
-                    default:
-                        return relativeValue * 1000;
+                if (this == Milli) {
+                    return Math.floorDiv(relativeValue, 1000) + (Math.floorMod(relativeValue, 1000) == 0 ? 0 : 1);
                 }
+                return saturatedMultiply(relativeValue, factor);
             }
         }
     }
@@ -20,13 +20,11 @@ import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
-import org.openrewrite.kubernetes.tree.K8S;
 import org.openrewrite.yaml.tree.Yaml;
 
 import java.util.regex.Pattern;
 
 import static org.openrewrite.kubernetes.tree.K8S.Annotations.inAnnotations;
-import static org.openrewrite.kubernetes.tree.K8S.asAnnotations;
 
 @Value
 @EqualsAndHashCode(callSuper = false)
@@ -69,17 +67,17 @@ public class FindAnnotation extends Recipe {
 
         EntryMarkingVisitor visitor = new EntryMarkingVisitor() {
             @Override
-            public Yaml.Scalar visitScalar(Yaml.Scalar scalar, ExecutionContext ctx) {
+            public Yaml.Mapping.Entry visitMappingEntry(Yaml.Mapping.Entry entry, ExecutionContext ctx) {
                 Cursor c = getCursor();
-                if (inAnnotations(c)) {
-                    K8S.Annotations annos = asAnnotations(c.firstEnclosing(Yaml.Mapping.class));
-                    if (value == null && annos.getKeys().contains(annotationName)) {
-                        c.putMessageOnFirstEnclosing(Yaml.Mapping.Entry.class, MARKER_KEY, found);
-                    } else if (pattern != null && annos.valueMatches(annotationName, pattern, c)) {
-                        c.putMessageOnFirstEnclosing(Yaml.Mapping.Entry.class, MARKER_KEY, valid);
+                if (annotationName.equals(entry.getKey().getValue()) && inAnnotations(c)) {
+                    if (pattern == null) {
+                        c.putMessage(MARKER_KEY, found);
+                    } else if (entry.getValue() instanceof Yaml.Scalar &&
+                               pattern.matcher(((Yaml.Scalar) entry.getValue()).getValue()).matches()) {
+                        c.putMessage(MARKER_KEY, valid);
                     }
                 }
-                return super.visitScalar(scalar, ctx);
+                return super.visitMappingEntry(entry, ctx);
             }
         };
         return fileMatcher != null ? Preconditions.check(new FindSourceFiles(fileMatcher), visitor) : visitor;
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.kubernetes.search;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.kubernetes.migrate.ApiVersionMigrations;
+import org.openrewrite.kubernetes.table.ApiVersions;
+import org.openrewrite.kubernetes.trait.KubernetesResource;
+import org.openrewrite.kubernetes.trait.Traits;
+import org.openrewrite.kubernetes.tree.KubernetesModel;
+import org.openrewrite.yaml.YamlIsoVisitor;
+import org.openrewrite.yaml.tree.Yaml;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class FindApiVersions extends ScanningRecipe<FindApiVersions.Histogram> {
+
+    @Option(displayName = "Kubernetes version",
+            description = "The Kubernetes version to check apiVersions against.",
+            example = "1.32")
+    String kubernetesVersion;
+
+    @Option(displayName = "Optional file matcher",
+            description = "Matching files will be searched. This is a glob expression.",
+            required = false,
+            example = "**/pod-*.yml")
+    @Nullable
+    String fileMatcher;
+
+    transient ApiVersions apiVersions = new ApiVersions(this);
+
+    @Override
+    public Validated<Object> validate() {
+        return super.validate().and(
+                Validated.test("kubernetesVersion",
+                        "Kubernetes version must be of the form 1.<minor>.",
+                        kubernetesVersion,
+                        ApiVersionMigrations::isValidVersion));
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "Find Kubernetes API versions";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Count the resources of each apiVersion and kind, flagging the apiVersions that a Kubernetes version no longer serves.";
+    }
+
+    @Override
+    public Histogram getInitialValue(ExecutionContext ctx) {
+        return new Histogram();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Histogram acc) {
+        KubernetesResource.Matcher resources = Traits.kubernetesResource(null, null);
+        YamlIsoVisitor<ExecutionContext> visitor = new YamlIsoVisitor<ExecutionContext>() {
+            @Override
+            public Yaml.Document visitDocument(Yaml.Document document, ExecutionContext ctx) {
+                resources.get(getCursor()).ifPresent(resource -> {
+                    KubernetesModel model = resource.getModel();
+                    acc.add(model.getApiVersion(), model.getKind());
+                });
+                return document;
+            }
+        };
+        return fileMatcher != null ? Preconditions.check(new FindSourceFiles(fileMatcher), visitor) : visitor;
+    }
+
+    @Override
+    public Collection<? extends SourceFile> generate(Histogram acc, ExecutionContext ctx) {
+        int target = ApiVersionMigrations.minorVersion(kubernetesVersion);
+        ApiVersionMigrations migrations = ApiVersionMigrations.upTo(kubernetesVersion);
+        List<Map.Entry<ApiVersionKind, Long>> entries = new ArrayList<>(acc.getCounts().entrySet());
+        entries.sort(Map.Entry.comparingByKey(Comparator.comparing(ApiVersionKind::getApiVersion)
+                .thenComparing(ApiVersionKind::getKind)));
+        for (Map.Entry<ApiVersionKind, Long> entry : entries) {
+            String apiVersion = entry.getKey().getApiVersion();
+            String kind = entry.getKey().getKind();
+            ApiVersionMigrations.Migration removal = ApiVersionMigrations.removal(apiVersion, kind);
+            boolean removedByTarget = removal != null && ApiVersionMigrations.minorVersion(removal.getKubernetesVersion()) <= target;
+            String replacement = null;
+            if (removal != null) {
+                replacement = removedByTarget ? migrations.migrate(apiVersion, kind) : removal.getNewApiVersion();
+                if (replacement == null) {
+                    replacement = removal.getNewApiVersion();
+                }
+            }
+            apiVersions.insertRow(ctx, new ApiVersions.Row(apiVersion, kind, entry.getValue(),
+                    removal == null ? null : removal.getKubernetesVersion(), replacement, removedByTarget));
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Counts of resources per apiVersion and kind, so memory grows with the number of distinct pairs rather than
+     * with the number of documents.
+     */
+    @Value
+    public static class Histogram {
+        Map<ApiVersionKind, Long> counts = new ConcurrentHashMap<>();
+
+        void add(String apiVersion, String kind) {
+            counts.merge(new ApiVersionKind(apiVersion, kind), 1L, Long::sum);
+        }
+    }
+
+    @Value
+    public static class ApiVersionKind {
+        String apiVersion;
+        String kind;
+    }
+}
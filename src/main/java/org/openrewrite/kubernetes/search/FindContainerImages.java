@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.kubernetes.search;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.kubernetes.ContainerImage;
+import org.openrewrite.kubernetes.KubernetesPathVisitor;
+import org.openrewrite.kubernetes.table.ContainerImages;
+import org.openrewrite.kubernetes.trait.KubernetesResource;
+import org.openrewrite.kubernetes.trait.Traits;
+import org.openrewrite.kubernetes.tree.KubernetesModel;
+import org.openrewrite.yaml.tree.Yaml;
+
+/**
+ * Inserts a row per container image as it is visited, so the inventory is gathered in the same single pass
+ * over each file and without holding on to anything beyond the document being visited.
+ */
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class FindContainerImages extends Recipe {
+
+    transient ContainerImages images = new ContainerImages(this);
+
+    @Option(displayName = "Optional file matcher",
+            description = "Matching files will be searched. This is a glob expression.",
+            required = false,
+            example = "**/pod-*.yml")
+    @Nullable
+    String fileMatcher;
+
+    @Override
+    public String getDisplayName() {
+        return "Container image inventory";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Produce a data table of the images used by every container and initContainer, " +
+               "along with the resource and container that use them.";
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        KubernetesResource.Matcher resources = Traits.kubernetesResource(null, null);
+
+        KubernetesPathVisitor<ExecutionContext> visitor = new KubernetesPathVisitor<ExecutionContext>() {
+            private String sourcePath = "";
+
+            @Nullable
+            private KubernetesModel model;
+
+            @Override
+            public Yaml.Documents visitDocuments(Yaml.Documents documents, ExecutionContext ctx) {
+                sourcePath = documents.getSourcePath().toString();
+                return super.visitDocuments(documents, ctx);
+            }
+
+            @Override
+            public Yaml.Document visitDocument(Yaml.Document document, ExecutionContext ctx) {
+                model = resources.get(getCursor()).map(KubernetesResource::getModel).orElse(null);
+                return super.visitDocument(document, ctx);
+            }
+
+            @Override
+            public Yaml.Scalar visitScalar(Yaml.Scalar scalar, ExecutionContext ctx) {
+                String containerType = pathEndsWith("spec", "containers", SEQUENCE_ENTRY, "image") ? "containers" :
+                        pathEndsWith("spec", "initContainers", SEQUENCE_ENTRY, "image") ? "initContainers" : null;
+                if (containerType != null) {
+                    Cursor entry = getCursor().getParentTreeCursor();
+                    if (entry.getValue() instanceof Yaml.Mapping.Entry &&
+                        ((Yaml.Mapping.Entry) entry.getValue()).getValue() == scalar) {
+                        ContainerImage.ImageName imageName = ContainerImage.of(scalar.getValue()).getImageName();
+                        KubernetesModel.Metadata metadata = model == null ? null : model.getMetadata();
+                        images.insertRow(ctx, new ContainerImages.Row(
+                                sourcePath,
+                                model == null ? null : model.getKind(),
+                                metadata == null ? null : metadata.getNamespace(),
+                                metadata == null ? null : metadata.getName(),
+                                containerType,
+                                containerName(entry.getParentTreeCursor().getValue()),
+                                imageName.getRepository(),
+                                imageName.getImage(),
+                                imageName.getTag(),
+                                imageName.getDigest()
+                        ));
+                    }
+                }
+                return super.visitScalar(scalar, ctx);
+            }
+        };
+        return fileMatcher != null ? Preconditions.check(new FindSourceFiles(fileMatcher), visitor) : visitor;
+    }
+
+    private static @Nullable String containerName(Object container) {
+        if (container instanceof Yaml.Mapping) {
+            for (Yaml.Mapping.Entry entry : ((Yaml.Mapping) container).getEntries()) {
+                if ("name".equals(entry.getKey().getValue()) && entry.getValue() instanceof Yaml.Scalar) {
+                    return ((Yaml.Scalar) entry.getValue()).getValue();
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -20,18 +20,14 @@ import lombok.Value;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.kubernetes.ContainerImage;
+import org.openrewrite.kubernetes.KubernetesPathVisitor;
 import org.openrewrite.marker.SearchResult;
-import org.openrewrite.yaml.YamlIsoVisitor;
 import org.openrewrite.yaml.tree.Yaml;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import static org.openrewrite.kubernetes.tree.K8S.Containers.inContainerSpec;
-import static org.openrewrite.kubernetes.tree.K8S.Containers.isImageName;
-import static org.openrewrite.kubernetes.tree.K8S.InitContainers.inInitContainerSpec;
-
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class FindDisallowedImageTags extends Recipe {
@@ -68,13 +64,12 @@ public class FindDisallowedImageTags extends Recipe {
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         List<String> disallowed = Arrays.asList(disallowedTags.split("\\s*,\\s*"));
 
-        YamlIsoVisitor<ExecutionContext> visitor = new YamlIsoVisitor<ExecutionContext>() {
+        KubernetesPathVisitor<ExecutionContext> visitor = new KubernetesPathVisitor<ExecutionContext>() {
             @Override
             public Yaml.Scalar visitScalar(Yaml.Scalar scalar, ExecutionContext ctx) {
                 Yaml.Scalar s = super.visitScalar(scalar, ctx);
-                Cursor c = getCursor();
-                if ((inContainerSpec(c) || (includeInitContainers && inInitContainerSpec(c))) && isImageName(c)) {
-                    ContainerImage image = new ContainerImage(scalar);
+                if ((inContainerSpec() || (includeInitContainers && inInitContainerSpec())) && isImageName()) {
+                    ContainerImage image = ContainerImage.of(scalar.getValue());
                     List<String> foundDisallowed = disallowed.stream().filter(t -> t.equals(image.getImageName().getTag())).collect(Collectors.toList());
                     if (!foundDisallowed.isEmpty()) {
                         s = SearchResult.found(s, "disallowed tag: [" + String.join(", ", foundDisallowed) + "]");
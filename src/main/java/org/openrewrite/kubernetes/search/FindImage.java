@@ -20,14 +20,11 @@ import lombok.Value;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.kubernetes.ContainerImage;
+import org.openrewrite.kubernetes.ImageNameMatcher;
+import org.openrewrite.kubernetes.KubernetesPathVisitor;
 import org.openrewrite.marker.SearchResult;
-import org.openrewrite.yaml.YamlIsoVisitor;
 import org.openrewrite.yaml.tree.Yaml;
 
-import static org.openrewrite.kubernetes.tree.K8S.Containers.inContainerSpec;
-import static org.openrewrite.kubernetes.tree.K8S.Containers.isImageName;
-import static org.openrewrite.kubernetes.tree.K8S.InitContainers.inInitContainerSpec;
-
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class FindImage extends Recipe {
@@ -79,14 +76,14 @@ public class FindImage extends Recipe {
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         ContainerImage.ImageName imageToSearch = new ContainerImage.ImageName(repository, imageName, imageTag, "*");
         String result = imageToSearch.toString();
+        ImageNameMatcher matcher = new ImageNameMatcher(imageToSearch);
 
-        YamlIsoVisitor<ExecutionContext> visitor = new YamlIsoVisitor<ExecutionContext>() {
+        KubernetesPathVisitor<ExecutionContext> visitor = new KubernetesPathVisitor<ExecutionContext>() {
             @Override
             public Yaml.Scalar visitScalar(Yaml.Scalar scalar, ExecutionContext ctx) {
-                Cursor c = getCursor();
-                if ((inContainerSpec(c) || (includeInitContainers && inInitContainerSpec(c))) && isImageName(c)) {
-                    ContainerImage image = new ContainerImage(scalar.getValue());
-                    if (image.getImageName().matches(imageToSearch)) {
+                if ((inContainerSpec() || (includeInitContainers && inInitContainerSpec())) && isImageName()) {
+                    ContainerImage image = ContainerImage.of(scalar.getValue());
+                    if (matcher.matches(image.getImageName())) {
                         return SearchResult.found(scalar, result);
                     }
                 }
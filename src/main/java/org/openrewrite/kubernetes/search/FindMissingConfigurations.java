@@ -0,0 +1,182 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.kubernetes.search;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.kubernetes.trait.KubernetesResource;
+import org.openrewrite.kubernetes.trait.Traits;
+import org.openrewrite.kubernetes.tree.JsonPathMatchers;
+import org.openrewrite.marker.SearchResult;
+import org.openrewrite.yaml.JsonPathMatcher;
+import org.openrewrite.yaml.YamlIsoVisitor;
+import org.openrewrite.yaml.tree.Yaml;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Checks several {@link FindResourceMissingConfiguration}-style rules in a single traversal of each document,
+ * rather than one traversal per rule.
+ */
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class FindMissingConfigurations extends Recipe {
+
+    @Option(displayName = "Checks",
+            description = "Predefined configurations to search for, which the `Missing*` best-practice recipes also check.",
+            example = "POD_LIVENESS_PROBE",
+            required = false)
+    @Nullable
+    List<Check> checks;
+
+    @Option(displayName = "Rules",
+            description = "The configurations to search for. Each rule has a JsonPath `configurationPath`, " +
+                          "an optional `resourceKind` it applies to and an optional `message` to mark resources that are missing it with.",
+            required = false)
+    @Nullable
+    List<Rule> rules;
+
+    @Option(displayName = "Optional file matcher",
+            description = "Matching files will be modified. This is a glob expression.",
+            required = false,
+            example = "**/pod-*.yml")
+    @Nullable
+    String fileMatcher;
+
+    @Override
+    public String getDisplayName() {
+        return "Find missing configurations";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Find Kubernetes resources missing any of several configurations, checking all of them in one pass.";
+    }
+
+    @Override
+    public Validated<Object> validate() {
+        return super.validate().and(Validated.test("rules",
+                "Either checks or rules must be specified.",
+                this,
+                r -> (r.checks != null && !r.checks.isEmpty()) || (r.rules != null && !r.rules.isEmpty())));
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        List<Rule> searched = new ArrayList<>();
+        if (checks != null) {
+            for (Check check : checks) {
+                searched.add(check.getRule());
+            }
+        }
+        if (rules != null) {
+            searched.addAll(rules);
+        }
+
+        KubernetesResource.Matcher resources = Traits.kubernetesResource(null, null);
+        List<JsonPathMatcher> matchers = new ArrayList<>(searched.size());
+        for (Rule rule : searched) {
+            matchers.add(JsonPathMatchers.compile(rule.getConfigurationPath()));
+        }
+
+        YamlIsoVisitor<ExecutionContext> visitor = new YamlIsoVisitor<ExecutionContext>() {
+            /**
+             * The rules that apply to the document being visited and have not matched an entry yet.
+             */
+            @Nullable
+            private BitSet pending;
+
+            @Override
+            public Yaml.Document visitDocument(Yaml.Document document, ExecutionContext ctx) {
+                KubernetesResource resource = resources.get(getCursor()).orElse(null);
+                if (resource == null) {
+                    return document;
+                }
+
+                BitSet applicable = new BitSet(searched.size());
+                for (int i = 0; i < searched.size(); i++) {
+                    String resourceKind = searched.get(i).getResourceKind();
+                    if (resourceKind == null || resourceKind.equals(resource.getModel().getKind())) {
+                        applicable.set(i);
+                    }
+                }
+                if (applicable.isEmpty()) {
+                    return document;
+                }
+
+                pending = applicable;
+                Yaml.Document d = super.visitDocument(document, ctx);
+                BitSet missing = pending;
+                pending = null;
+
+                for (int i = missing.nextSetBit(0); i >= 0; i = missing.nextSetBit(i + 1)) {
+                    Rule rule = searched.get(i);
+                    d = SearchResult.mergingFound(d,
+                            rule.getMessage() != null ? rule.getMessage() : "missing: " + rule.getConfigurationPath());
+                }
+                return d;
+            }
+
+            @Override
+            public Yaml.Mapping.Entry visitMappingEntry(Yaml.Mapping.Entry entry, ExecutionContext ctx) {
+                if (pending == null || pending.isEmpty()) {
+                    return entry;
+                }
+                for (int i = pending.nextSetBit(0); i >= 0; i = pending.nextSetBit(i + 1)) {
+                    if (matchers.get(i).matches(getCursor())) {
+                        pending.clear(i);
+                    }
+                }
+                return pending.isEmpty() ? entry : super.visitMappingEntry(entry, ctx);
+            }
+        };
+        return fileMatcher != null ? Preconditions.check(new FindSourceFiles(fileMatcher), visitor) : visitor;
+    }
+
+    /**
+     * The configurations of the best-practice recipes, defined once for both the individual {@code Missing*} recipes
+     * and {@code KubernetesBestPractices}, which checks all of them in one pass.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum Check {
+        POD_LIVENESS_PROBE(new Rule("Pod", "$.spec.containers[:1].livenessProbe", null)),
+        POD_READINESS_PROBE(new Rule("Pod", "$.spec.containers[:1].readinessProbe", null)),
+        CPU_REQUEST(new Rule(null, "..spec.containers[:1].resources.requests.cpu", null)),
+        CPU_LIMITS(new Rule(null, "..spec.containers[:1].resources.limits.cpu", null)),
+        MEMORY_REQUEST(new Rule(null, "..spec.containers[:1].resources.requests.memory", null)),
+        MEMORY_LIMITS(new Rule(null, "..spec.containers[:1].resources.limits.memory", null));
+
+        private final Rule rule;
+    }
+
+    @Value
+    public static class Rule {
+        @Nullable
+        String resourceKind;
+
+        String configurationPath;
+
+        @Nullable
+        String message;
+    }
+}
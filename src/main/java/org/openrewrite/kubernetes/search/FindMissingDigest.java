@@ -20,14 +20,10 @@ import lombok.Value;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.kubernetes.ContainerImage;
+import org.openrewrite.kubernetes.KubernetesPathVisitor;
 import org.openrewrite.marker.SearchResult;
-import org.openrewrite.yaml.YamlIsoVisitor;
 import org.openrewrite.yaml.tree.Yaml;
 
-import static org.openrewrite.kubernetes.tree.K8S.Containers.inContainerSpec;
-import static org.openrewrite.kubernetes.tree.K8S.Containers.isImageName;
-import static org.openrewrite.kubernetes.tree.K8S.InitContainers.inInitContainerSpec;
-
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class FindMissingDigest extends Recipe {
@@ -60,12 +56,11 @@ public class FindMissingDigest extends Recipe {
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         String result = "missing digest";
 
-        YamlIsoVisitor<ExecutionContext> visitor = new YamlIsoVisitor<ExecutionContext>() {
+        KubernetesPathVisitor<ExecutionContext> visitor = new KubernetesPathVisitor<ExecutionContext>() {
             @Override
             public Yaml.Scalar visitScalar(Yaml.Scalar scalar, ExecutionContext ctx) {
-                Cursor c = getCursor();
-                if ((inContainerSpec(c) || (includeInitContainers && inInitContainerSpec(c))) && isImageName(c)) {
-                    ContainerImage image = new ContainerImage(scalar.getValue());
+                if ((inContainerSpec() || (includeInitContainers && inInitContainerSpec())) && isImageName()) {
+                    ContainerImage image = ContainerImage.of(scalar.getValue());
                     if (!image.getImageName().hasDigest()) {
                         return SearchResult.found(scalar, result);
                     }
@@ -20,14 +20,10 @@ import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
-import org.openrewrite.kubernetes.tree.K8S;
-import org.openrewrite.yaml.tree.Yaml;
+import org.openrewrite.kubernetes.tree.KubernetesModel;
 
 import java.util.regex.Pattern;
 
-import static org.openrewrite.kubernetes.tree.K8S.Annotations.inAnnotations;
-import static org.openrewrite.kubernetes.tree.K8S.asAnnotations;
-
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class FindMissingOrInvalidAnnotation extends Recipe {
@@ -64,24 +60,8 @@ public class FindMissingOrInvalidAnnotation extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         Pattern pattern = value != null ? Pattern.compile(value) : null;
-        String missing = "missing:" + annotationName;
-        String invalid = null != value ? ("invalid:" + value) : null;
-
-        EntryMarkingVisitor visitor = new EntryMarkingVisitor() {
-            @Override
-            public Yaml.Mapping.Entry visitMappingEntry(Yaml.Mapping.Entry entry, ExecutionContext ctx) {
-                Cursor c = getCursor();
-                if (inAnnotations(c)) {
-                    K8S.Annotations annos = asAnnotations(c.firstEnclosing(Yaml.Mapping.class));
-                    if (value == null && !annos.getKeys().contains(annotationName)) {
-                        c.getParentOrThrow().putMessageOnFirstEnclosing(Yaml.Mapping.Entry.class, MARKER_KEY, missing);
-                    } else if (pattern != null && !annos.valueMatches(annotationName, pattern, c)) {
-                        c.putMessageOnFirstEnclosing(Yaml.Mapping.Entry.class, MARKER_KEY, invalid);
-                    }
-                }
-                return super.visitMappingEntry(entry, ctx);
-            }
-        };
+        MissingOrInvalidMetadataVisitor visitor = new MissingOrInvalidMetadataVisitor(
+                "annotations", KubernetesModel.Metadata::getAnnotations, annotationName, pattern);
         return fileMatcher != null ? Preconditions.check(new FindSourceFiles(fileMatcher), visitor) : visitor;
     }
 }
@@ -20,14 +20,10 @@ import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
-import org.openrewrite.kubernetes.tree.K8S;
-import org.openrewrite.yaml.JsonPathMatcher;
-import org.openrewrite.yaml.tree.Yaml;
+import org.openrewrite.kubernetes.tree.KubernetesModel;
 
 import java.util.regex.Pattern;
 
-import static org.openrewrite.kubernetes.tree.K8S.asLabels;
-
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class FindMissingOrInvalidLabel extends Recipe {
@@ -64,26 +60,8 @@ public class FindMissingOrInvalidLabel extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         Pattern pattern = value != null ? Pattern.compile(value) : null;
-        String missing = "missing:" + labelName;
-        String invalid = null != value ? ("invalid:" + value) : null;
-
-        EntryMarkingVisitor visitor = new EntryMarkingVisitor() {
-            private final JsonPathMatcher IN_LABELS = new JsonPathMatcher("$.*..metadata.labels.*");
-
-            @Override
-            public Yaml.Mapping.Entry visitMappingEntry(Yaml.Mapping.Entry entry, ExecutionContext ctx) {
-                Cursor parent = getCursor().dropParentUntil(is -> is instanceof Yaml.Mapping || is instanceof Yaml.Document);
-                if (parent.getValue() instanceof Yaml.Mapping && IN_LABELS.matches(parent)) {
-                    K8S.Labels labels = asLabels(parent.getValue());
-                    if (value == null && !labels.getKeys().contains(labelName)) {
-                        getCursor().getParentOrThrow().putMessageOnFirstEnclosing(Yaml.Mapping.Entry.class, MARKER_KEY, missing);
-                    } else if (pattern != null && !labels.valueMatches(labelName, pattern, getCursor())) {
-                        getCursor().putMessageOnFirstEnclosing(Yaml.Mapping.Entry.class, MARKER_KEY, invalid);
-                    }
-                }
-                return super.visitMappingEntry(entry, ctx);
-            }
-        };
+        MissingOrInvalidMetadataVisitor visitor = new MissingOrInvalidMetadataVisitor(
+                "labels", KubernetesModel.Metadata::getLabels, labelName, pattern);
         return fileMatcher != null ? Preconditions.check(new FindSourceFiles(fileMatcher), visitor) : visitor;
     }
 
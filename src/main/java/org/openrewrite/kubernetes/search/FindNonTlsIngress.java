@@ -59,7 +59,7 @@ public class FindNonTlsIngress extends Recipe {
                     }
                     return d;
                 }
-                return super.visitDocument(document, ctx);
+                return document;
             }
         };
         return fileMatcher != null ? Preconditions.check(new FindSourceFiles(fileMatcher), visitor) : visitor;
@@ -21,6 +21,7 @@ import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.kubernetes.trait.KubernetesResource;
 import org.openrewrite.kubernetes.trait.Traits;
+import org.openrewrite.kubernetes.tree.JsonPathMatchers;
 import org.openrewrite.marker.SearchResult;
 import org.openrewrite.yaml.JsonPathMatcher;
 import org.openrewrite.yaml.YamlIsoVisitor;
@@ -65,24 +66,47 @@ public class FindResourceMissingConfiguration extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
+        ConfigurationScanner scanner = new ConfigurationScanner(JsonPathMatchers.compile(configurationPath));
+        String missing = "missing: " + configurationPath;
         TreeVisitor<? extends Tree, ExecutionContext> kubernetesResourceVisitor = Traits.kubernetesResource(null, resourceKind)
-                .asVisitor((KubernetesResource resource, ExecutionContext ctx) -> {
-                    AtomicBoolean pathFound = new AtomicBoolean(false);
-                    new YamlIsoVisitor<AtomicBoolean>() {
-                        @Override
-                        public Yaml.Mapping.Entry visitMappingEntry(Yaml.Mapping.Entry entry, AtomicBoolean bool) {
-                            if (new JsonPathMatcher(configurationPath).matches(getCursor())) {
-                                bool.set(true);
-                            }
-                            return bool.get() ? entry : super.visitMappingEntry(entry, bool);
-                        }
-                    }.visitNonNull(resource.getTree(), pathFound, requireNonNull(resource.getCursor().getParent()));
-                    return pathFound.get() ? resource.getTree() : SearchResult.found(resource.getTree(), "missing: " + configurationPath);
-                });
+                .asVisitor((KubernetesResource resource, ExecutionContext ctx) ->
+                        scanner.contains(resource) ? resource.getTree() : SearchResult.found(resource.getTree(), missing));
 
         if (fileMatcher != null) {
             return Preconditions.check(new FindSourceFiles(fileMatcher), kubernetesResourceVisitor);
         }
         return kubernetesResourceVisitor;
     }
+
+    /**
+     * Searches a resource for an entry matching the configuration path, skipping the rest of the
+     * resource as soon as one is found.
+     */
+    private static class ConfigurationScanner extends YamlIsoVisitor<AtomicBoolean> {
+        private final JsonPathMatcher configurationMatcher;
+
+        ConfigurationScanner(JsonPathMatcher configurationMatcher) {
+            this.configurationMatcher = configurationMatcher;
+        }
+
+        boolean contains(KubernetesResource resource) {
+            AtomicBoolean found = new AtomicBoolean();
+            visit(resource.getTree(), found, requireNonNull(resource.getCursor().getParent()));
+            return found.get();
+        }
+
+        @Override
+        public @Nullable Yaml visit(@Nullable Tree tree, AtomicBoolean found) {
+            return found.get() ? (Yaml) tree : super.visit(tree, found);
+        }
+
+        @Override
+        public Yaml.Mapping.Entry visitMappingEntry(Yaml.Mapping.Entry entry, AtomicBoolean found) {
+            if (configurationMatcher.matches(getCursor())) {
+                found.set(true);
+                return entry;
+            }
+            return super.visitMappingEntry(entry, found);
+        }
+    }
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.kubernetes.search;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.kubernetes.UpdateKubernetesModel;
+import org.openrewrite.kubernetes.tree.KubernetesModel;
+import org.openrewrite.marker.SearchResult;
+import org.openrewrite.yaml.YamlIsoVisitor;
+import org.openrewrite.yaml.tree.Yaml;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Marks the labels or annotations of every {@code metadata} block, whether of a resource or of a pod template,
+ * that are missing a key or whose value for the key is invalid. The key/value index of each block is computed once
+ * when the block is visited, rather than rebuilding the key set for every entry within it.
+ */
+class MissingOrInvalidMetadataVisitor extends YamlIsoVisitor<ExecutionContext> {
+    private final String section;
+    private final Function<KubernetesModel.Metadata, @Nullable Map<String, String>> index;
+    private final String name;
+
+    @Nullable
+    private final Pattern pattern;
+
+    private final String missing;
+
+    @Nullable
+    private final String invalid;
+
+    /**
+     * @param section Either {@code labels} or {@code annotations}.
+     * @param index   The index of the section in the metadata.
+     * @param name    The key to look for.
+     * @param pattern The pattern the key's value must match, or {@code null} to look for missing keys instead.
+     */
+    MissingOrInvalidMetadataVisitor(String section, Function<KubernetesModel.Metadata, @Nullable Map<String, String>> index,
+                                    String name, @Nullable Pattern pattern) {
+        this.section = section;
+        this.index = index;
+        this.name = name;
+        this.pattern = pattern;
+        this.missing = "missing:" + name;
+        this.invalid = pattern != null ? "invalid:" + pattern.pattern() : null;
+    }
+
+    @Override
+    public Yaml.Mapping.Entry visitMappingEntry(Yaml.Mapping.Entry entry, ExecutionContext ctx) {
+        Yaml.Mapping.Entry e = super.visitMappingEntry(entry, ctx);
+        if (!"metadata".equals(e.getKey().getValue()) || !(e.getValue() instanceof Yaml.Mapping)) {
+            return e;
+        }
+
+        Yaml.Mapping metadata = (Yaml.Mapping) e.getValue();
+        Map<String, String> values = index.apply(UpdateKubernetesModel.metadataOf(metadata));
+        return e.withValue(metadata.withEntries(ListUtils.map(metadata.getEntries(), s -> {
+            if (!section.equals(s.getKey().getValue()) || !(s.getValue() instanceof Yaml.Mapping) ||
+                ((Yaml.Mapping) s.getValue()).getEntries().isEmpty()) {
+                return s;
+            }
+            boolean present = values != null && values.containsKey(name);
+            if (pattern == null) {
+                return present ? s : SearchResult.found(s, missing);
+            } else if (!present || pattern.matcher(values.get(name)).matches()) {
+                return s;
+            }
+            Yaml.Mapping sectionMapping = (Yaml.Mapping) s.getValue();
+            return s.withValue(sectionMapping.withEntries(ListUtils.map(sectionMapping.getEntries(), kv ->
+                    name.equals(kv.getKey().getValue()) ? SearchResult.found(kv, invalid) : kv)));
+        })));
+    }
+}
@@ -84,6 +84,6 @@ public class FindServiceExternalIPs extends Recipe {
                 return super.visitSequence(sequence, ctx);
             }
         };
-        return fileMatcher != null ? Preconditions.check(new FindSourceFiles(fileMatcher), visitor) : visitor;
+        return ServicePrecondition.check(fileMatcher, visitor);
     }
 }
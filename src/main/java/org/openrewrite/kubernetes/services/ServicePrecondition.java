@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.kubernetes.services;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.kubernetes.trait.KubernetesResource;
+import org.openrewrite.kubernetes.trait.Traits;
+import org.openrewrite.yaml.YamlVisitor;
+import org.openrewrite.yaml.tree.Yaml;
+
+/**
+ * Applies a service recipe's visitor to the {@code Service} documents of a file only, so that documents of other
+ * kinds are returned without being walked node by node.
+ */
+class ServicePrecondition extends YamlVisitor<ExecutionContext> {
+    private final KubernetesResource.Matcher services = Traits.kubernetesResource(null, "Service");
+    private final TreeVisitor<?, ExecutionContext> visitor;
+
+    private ServicePrecondition(TreeVisitor<?, ExecutionContext> visitor) {
+        this.visitor = visitor;
+    }
+
+    static TreeVisitor<?, ExecutionContext> check(@Nullable String fileMatcher, TreeVisitor<?, ExecutionContext> visitor) {
+        ServicePrecondition services = new ServicePrecondition(visitor);
+        return fileMatcher != null ? Preconditions.check(new FindSourceFiles(fileMatcher), services) : services;
+    }
+
+    @Override
+    public Yaml visitDocument(Yaml.Document document, ExecutionContext ctx) {
+        if (!services.get(getCursor()).isPresent()) {
+            return document;
+        }
+        Tree visited = visitor.visit(document, ctx, getCursor().getParentOrThrow());
+        return visited == null ? document : (Yaml) visited;
+    }
+}
@@ -71,6 +71,6 @@ public class UpdateServiceExternalIP extends Recipe {
                 return super.visitSequenceEntry(entry, ctx);
             }
         };
-        return fileMatcher != null ? Preconditions.check(new FindSourceFiles(fileMatcher), visitor) : visitor;
+        return ServicePrecondition.check(fileMatcher, visitor);
     }
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.kubernetes.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class ApiVersions extends DataTable<ApiVersions.Row> {
+
+    public ApiVersions(Recipe recipe) {
+        super(recipe,
+                "Kubernetes API versions",
+                "The number of resources of each apiVersion and kind, and whether Kubernetes removes that apiVersion.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "API version",
+                description = "The apiVersion of the resources.")
+        String apiVersion;
+
+        @Column(displayName = "Kind",
+                description = "The kind of the resources.")
+        String kind;
+
+        @Column(displayName = "Resources",
+                description = "The number of resources with this apiVersion and kind.")
+        long resources;
+
+        @Column(displayName = "Removed in",
+                description = "The Kubernetes version that no longer serves this apiVersion for this kind, if any.")
+        @Nullable
+        String removedIn;
+
+        @Column(displayName = "Replacement",
+                description = "The apiVersion that replaces it.")
+        @Nullable
+        String replacement;
+
+        @Column(displayName = "Removed by target",
+                description = "Whether the apiVersion is no longer served by the target Kubernetes version.")
+        boolean removedByTarget;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.kubernetes.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class ContainerImages extends DataTable<ContainerImages.Row> {
+
+    public ContainerImages(Recipe recipe) {
+        super(recipe,
+                "Container images",
+                "The images referenced by the containers and initContainers of Kubernetes resources.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source path",
+                description = "The path to the file containing the resource.")
+        String sourcePath;
+
+        @Column(displayName = "Kind",
+                description = "The kind of the resource.")
+        @Nullable
+        String kind;
+
+        @Column(displayName = "Namespace",
+                description = "The namespace of the resource.")
+        @Nullable
+        String namespace;
+
+        @Column(displayName = "Name",
+                description = "The name of the resource.")
+        @Nullable
+        String name;
+
+        @Column(displayName = "Container type",
+                description = "Either `containers` or `initContainers`.")
+        String containerType;
+
+        @Column(displayName = "Container name",
+                description = "The name of the container.")
+        @Nullable
+        String containerName;
+
+        @Column(displayName = "Repository",
+                description = "The repository part of the image name.")
+        @Nullable
+        String repository;
+
+        @Column(displayName = "Image",
+                description = "The image part of the image name.")
+        @Nullable
+        String image;
+
+        @Column(displayName = "Tag",
+                description = "The tag part of the image name.")
+        @Nullable
+        String tag;
+
+        @Column(displayName = "Digest",
+                description = "The digest part of the image name.")
+        @Nullable
+        String digest;
+    }
+}
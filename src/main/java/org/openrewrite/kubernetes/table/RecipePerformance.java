@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.kubernetes.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class RecipePerformance extends DataTable<RecipePerformance.Row> {
+
+    public RecipePerformance(Recipe recipe) {
+        super(recipe,
+                "Recipe performance",
+                "The time spent in each recipe's visitor, and in the `K8S` predicates it calls, per source file.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source path",
+                description = "The path to the source file visited.")
+        String sourcePath;
+
+        @Column(displayName = "Recipe",
+                description = "The name of the recipe whose visitor was timed.")
+        String recipe;
+
+        @Column(displayName = "Predicate",
+                description = "The `K8S` predicate called by the recipe's visitor, or empty for the visitor itself.")
+        @Nullable
+        String predicate;
+
+        @Column(displayName = "Calls",
+                description = "The number of times the visitor visited the source file, or the predicate was called.")
+        long calls;
+
+        @Column(displayName = "Nanoseconds",
+                description = "The cumulative time spent in the calls. The time of a visitor includes the predicates it calls.")
+        long nanos;
+
+        @Column(displayName = "Matches",
+                description = "The number of visits that changed the source file, or of predicate calls that returned `true`.")
+        long matches;
+    }
+}
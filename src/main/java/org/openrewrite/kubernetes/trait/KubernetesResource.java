@@ -19,8 +19,6 @@ import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.Cursor;
-import org.openrewrite.ExecutionContext;
-import org.openrewrite.InMemoryExecutionContext;
 import org.openrewrite.kubernetes.UpdateKubernetesModel;
 import org.openrewrite.kubernetes.tree.KubernetesModel;
 import org.openrewrite.trait.SimpleTraitMatcher;
@@ -33,6 +31,33 @@ public class KubernetesResource implements Trait<Yaml.Document> {
     Cursor cursor;
     KubernetesModel model;
 
+    /**
+     * Reuses the {@link KubernetesModel} marker that {@link UpdateKubernetesModel} attached to the document, so that
+     * several matchers evaluating the same document (e.g. the recipes of a composite recipe) don't derive its model
+     * again. A marker left behind by an edit to the document's apiVersion or kind is ignored and the model derived
+     * from the document instead.
+     */
+    static @Nullable KubernetesModel modelOf(Yaml.Document document) {
+        KubernetesModel marker = document.getMarkers().findFirst(KubernetesModel.class).orElse(null);
+        if (marker != null && document.getBlock() instanceof Yaml.Mapping) {
+            Yaml.Mapping root = (Yaml.Mapping) document.getBlock();
+            if (marker.getApiVersion().equals(scalarValue(root, "apiVersion")) &&
+                marker.getKind().equals(scalarValue(root, "kind"))) {
+                return marker;
+            }
+        }
+        return UpdateKubernetesModel.modelOf(document);
+    }
+
+    private static @Nullable String scalarValue(Yaml.Mapping mapping, String key) {
+        for (Yaml.Mapping.Entry entry : mapping.getEntries()) {
+            if (key.equals(entry.getKey().getValue())) {
+                return entry.getValue() instanceof Yaml.Scalar ? ((Yaml.Scalar) entry.getValue()).getValue() : null;
+            }
+        }
+        return null;
+    }
+
     @Value
     @EqualsAndHashCode(callSuper = false)
     public static class Matcher extends SimpleTraitMatcher<KubernetesResource> {
@@ -46,14 +71,13 @@ public class KubernetesResource implements Trait<Yaml.Document> {
         protected @Nullable KubernetesResource test(Cursor cursor) {
             Object value = cursor.getValue();
             if (value instanceof Yaml.Document) {
-                return new UpdateKubernetesModel<ExecutionContext>()
-                        .visitNonNull((Yaml.Document) value, new InMemoryExecutionContext(), cursor.getParent())
-                        .getMarkers()
-                        .findFirst(KubernetesModel.class)
-                        .filter(model -> apiVersion == null || apiVersion.equals(model.getApiVersion()))
-                        .filter(model -> kind == null || kind.equals(model.getKind()))
-                        .map(kubernetesModel -> new KubernetesResource(cursor, kubernetesModel))
-                        .orElse(null);
+                KubernetesModel model = modelOf((Yaml.Document) value);
+                if (model == null ||
+                    (apiVersion != null && !apiVersion.equals(model.getApiVersion())) ||
+                    (kind != null && !kind.equals(model.getKind()))) {
+                    return null;
+                }
+                return new KubernetesResource(cursor, model);
             }
             return null;
         }
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.kubernetes.tree;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.yaml.tree.Yaml;
+
+import java.util.function.Function;
+
+/**
+ * Rewrites the {@code apiVersion} at the root of a resource, leaving those nested in it,
+ * like the apiVersion of an owner reference, alone.
+ */
+public final class ApiVersions {
+
+    private ApiVersions() {
+    }
+
+    public static Yaml.Document withApiVersion(Yaml.Document document, Function<String, @Nullable String> replacement) {
+        if (!(document.getBlock() instanceof Yaml.Mapping)) {
+            return document;
+        }
+        Yaml.Mapping root = (Yaml.Mapping) document.getBlock();
+        Yaml.Mapping m = withApiVersion(root, replacement);
+        return m == root ? document : document.withBlock(m);
+    }
+
+    /**
+     * @param root        The root mapping of a document.
+     * @param replacement Maps the current apiVersion to its replacement, or to null to leave it unchanged.
+     * @return The root mapping, or a copy of it with the replaced apiVersion.
+     */
+    public static Yaml.Mapping withApiVersion(Yaml.Mapping root, Function<String, @Nullable String> replacement) {
+        return root.withEntries(ListUtils.map(root.getEntries(), e -> {
+            if ("apiVersion".equals(e.getKey().getValue()) && e.getValue() instanceof Yaml.Scalar) {
+                Yaml.Scalar apiVersion = (Yaml.Scalar) e.getValue();
+                String newApiVersion = replacement.apply(apiVersion.getValue());
+                if (newApiVersion != null && !newApiVersion.equals(apiVersion.getValue())) {
+                    return e.withValue(apiVersion.withValue(newApiVersion));
+                }
+            }
+            return e;
+        }));
+    }
+}
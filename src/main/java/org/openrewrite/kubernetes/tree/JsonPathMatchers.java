@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.kubernetes.tree;
+
+import org.openrewrite.yaml.JsonPathMatcher;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A shared registry of {@link JsonPathMatcher} instances, keyed by their expression, so that
+ * the cursor predicates evaluated on every node of a manifest parse each path only once per JVM.
+ */
+public final class JsonPathMatchers {
+
+    /**
+     * Expressions are bounded by the set of recipe options in use, but guard against pathological
+     * callers building expressions from document content.
+     */
+    private static final int MAX_SIZE = 1024;
+
+    private static final Map<String, JsonPathMatcher> MATCHERS = new ConcurrentHashMap<>();
+
+    private JsonPathMatchers() {
+    }
+
+    public static JsonPathMatcher compile(String jsonPath) {
+        JsonPathMatcher matcher = MATCHERS.get(jsonPath);
+        if (matcher == null) {
+            if (MATCHERS.size() >= MAX_SIZE) {
+                return new JsonPathMatcher(jsonPath);
+            }
+            matcher = MATCHERS.computeIfAbsent(jsonPath, JsonPathMatcher::new);
+        }
+        return matcher;
+    }
+}
@@ -23,6 +23,7 @@ import lombok.With;
 import lombok.experimental.FieldDefaults;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.Cursor;
+import org.openrewrite.kubernetes.instrumentation.Instrumentation;
 import org.openrewrite.kubernetes.resource.ResourceLimit;
 import org.openrewrite.yaml.JsonPathMatcher;
 import org.openrewrite.yaml.tree.Yaml;
@@ -31,7 +32,6 @@ import java.util.*;
 import java.util.regex.Pattern;
 
 import static java.util.Collections.emptySet;
-import static org.openrewrite.Tree.randomId;
 
 /**
  * @deprecated Likely better served by {@link org.openrewrite.kubernetes.trait.Traits}.
@@ -39,13 +39,50 @@ import static org.openrewrite.Tree.randomId;
 @Deprecated
 public interface K8S {
 
+    /**
+     * The id of the value objects that are not backed by any tree. Otherwise, value objects take the id
+     * of the tree they are read from, rather than generating a random one on every (often hot) call.
+     */
+    UUID NO_TREE = new UUID(0, 0);
+
+    /**
+     * The message on a document's cursor holding its {@link Resource}, see {@link #resourceOf(Cursor)}.
+     */
+    String RESOURCE_MESSAGE = "org.openrewrite.kubernetes.tree.K8S.RESOURCE";
+
     static boolean inKind(String kind, Cursor cursor) {
-        Yaml.Document doc = cursor.firstEnclosing(Yaml.Document.class);
-        if (doc == null) {
-            return false;
+        return Instrumentation.record("K8S.inKind", kind, cursor, (k, c) -> {
+            Resource r = resourceOf(c);
+            return r != null && k.equals(r.getKind());
+        });
+    }
+
+    /**
+     * Resolves the apiVersion and kind of the document enclosing the cursor once per visit of that document,
+     * caching them as a message on the document's cursor, so that predicates like {@link #inKind(String, Cursor)}
+     * evaluated on every node of a document don't each rescan its top-level entries.
+     *
+     * @param cursor Any cursor within a document, or the document's own cursor.
+     * @return The resource of the enclosing document, or {@code null} when the cursor is not within a document.
+     */
+    static @Nullable Resource resourceOf(Cursor cursor) {
+        Cursor documentCursor = cursor;
+        while (documentCursor != null && !(documentCursor.getValue() instanceof Yaml.Document)) {
+            documentCursor = documentCursor.getParent();
         }
-        Resource r = K8S.asResource((Yaml.Mapping) doc.getBlock());
-        return kind.equals(r.getKind());
+        if (documentCursor == null) {
+            return null;
+        }
+
+        Resource resource = documentCursor.getMessage(RESOURCE_MESSAGE);
+        if (resource == null) {
+            Yaml.Document document = documentCursor.getValue();
+            resource = document.getBlock() instanceof Yaml.Mapping ?
+                    asResource((Yaml.Mapping) document.getBlock()) :
+                    new Resource(document.getId(), null, null);
+            documentCursor.putMessage(RESOURCE_MESSAGE, resource);
+        }
+        return resource;
     }
 
     static boolean inPod(Cursor cursor) {
@@ -73,13 +110,16 @@ public interface K8S {
         String kind = null;
         for (Yaml.Mapping.Entry e : m.getEntries()) {
             Yaml.Block value = e.getValue();
+            if (!(value instanceof Yaml.Scalar)) {
+                continue;
+            }
             if ("apiVersion".equals(e.getKey().getValue())) {
                 apiVersion = ((Yaml.Scalar) value).getValue();
             } else if ("kind".equals(e.getKey().getValue())) {
                 kind = ((Yaml.Scalar) value).getValue();
             }
         }
-        return new Resource(randomId(), apiVersion, kind);
+        return new Resource(m.getId(), apiVersion, kind);
     }
 
     @SuppressWarnings("ConstantConditions")
@@ -111,36 +151,36 @@ public interface K8S {
                     break;
             }
         }
-        return new Metadata(randomId(), namespace, name, annotations, labels);
+        return new Metadata(m.getId(), namespace, name, annotations, labels);
     }
 
     static Annotations asAnnotations(Yaml.@Nullable Mapping m) {
         if (m == null) {
-            return new Annotations(randomId(), emptySet());
+            return Annotations.EMPTY;
         }
         Set<String> keys = new HashSet<>();
         for (Yaml.Mapping.Entry e : m.getEntries()) {
             keys.add(e.getKey().getValue());
         }
-        return new Annotations(randomId(), keys);
+        return new Annotations(m.getId(), keys);
     }
 
     static Labels asLabels(Yaml.@Nullable Mapping m) {
         if (m == null) {
-            return new Labels(randomId(), emptySet());
+            return Labels.EMPTY;
         }
         Set<String> keys = new HashSet<>();
         for (Yaml.Mapping.Entry e : m.getEntries()) {
             keys.add(e.getKey().getValue());
         }
-        return new Labels(randomId(), keys);
+        return new Labels(m.getId(), keys);
     }
 
     static ResourceLimits asResourceLimits(Yaml.@Nullable Scalar s) {
         if (null == s) {
-            return new ResourceLimits(randomId(), null);
+            return ResourceLimits.EMPTY;
         } else {
-            return new ResourceLimits(randomId(), new ResourceLimit(s.getValue()));
+            return new ResourceLimits(s.getId(), ResourceLimit.of(s.getValue()));
         }
     }
 
@@ -148,23 +188,24 @@ public interface K8S {
         if (m == null) {
             return null;
         }
-        return new Service(randomId(), m.getEntries().stream()
-                .filter(e -> "type".equals(e.getKey().getValue()))
-                .findFirst()
-                .map(e -> ((Yaml.Scalar) e.getValue()).getValue())
-                .orElse("ClusterIP"));
+        for (Yaml.Mapping.Entry e : m.getEntries()) {
+            if ("type".equals(e.getKey().getValue())) {
+                return new Service(m.getId(), ((Yaml.Scalar) e.getValue()).getValue());
+            }
+        }
+        return new Service(m.getId(), "ClusterIP");
     }
 
     static boolean inMappingEntry(String jsonPath, @Nullable Cursor cursor) {
-        return inMappingEntry(new JsonPathMatcher(jsonPath), cursor);
+        return inMappingEntry(JsonPathMatchers.compile(jsonPath), cursor);
     }
 
     static boolean inMappingEntry(JsonPathMatcher jsonPath, @Nullable Cursor cursor) {
-        return firstEnclosingEntryMatching(jsonPath, cursor).isPresent();
+        return Instrumentation.record("K8S.inMappingEntry", jsonPath, cursor, (p, c) -> firstEnclosingEntryMatching(p, c).isPresent());
     }
 
     static Optional<Cursor> firstEnclosingEntryMatching(String jsonPath, @Nullable Cursor cursor) {
-        return firstEnclosingEntryMatching(new JsonPathMatcher(jsonPath), cursor);
+        return firstEnclosingEntryMatching(JsonPathMatchers.compile(jsonPath), cursor);
     }
 
     static Optional<Cursor> firstEnclosingEntryMatching(JsonPathMatcher jsonPath, @Nullable Cursor cursor) {
@@ -218,7 +259,10 @@ public interface K8S {
         @With
         UUID id;
 
+        @Nullable
         String apiVersion;
+
+        @Nullable
         String kind;
     }
 
@@ -242,9 +286,9 @@ public interface K8S {
         Labels labels;
 
         public static boolean isMetadata(Cursor cursor) {
-            return firstEnclosingEntryMatching("$.metadata", cursor)
-                    .filter(c -> c.getValue() == cursor.getValue())
-                    .isPresent();
+            return Instrumentation.record("K8S.Metadata.isMetadata", cursor, c -> firstEnclosingEntryMatching("$.metadata", c)
+                    .filter(m -> m.getValue() == c.getValue())
+                    .isPresent());
         }
     }
 
@@ -258,12 +302,52 @@ public interface K8S {
 
         Set<String> keys;
 
+        private static final Annotations EMPTY = new Annotations(NO_TREE, emptySet());
+
+        /**
+         * @param cursor A cursor to any node.
+         * @return {@code true} when the nearest mapping enclosing the node is the {@code annotations} of a
+         * {@code metadata} block, at the top level of a resource or nested, as in a pod template. This is decided
+         * from the keys of the enclosing entries alone, without evaluating a JsonPath.
+         */
         public static boolean inAnnotations(Cursor cursor) {
-            Cursor parent = cursor.dropParentUntil(is -> is instanceof Yaml.Mapping || is instanceof Yaml.Document);
-            if (parent.getValue() instanceof Yaml.Mapping) {
-                return new JsonPathMatcher("$.*..metadata.annotations.*").matches(parent);
+            return Instrumentation.record("K8S.Annotations.inAnnotations", cursor, Annotations::isAnnotation);
+        }
+
+        private static boolean isAnnotation(Cursor cursor) {
+            Cursor annotations = cursor.getParent();
+            while (annotations != null && !(annotations.getValue() instanceof Yaml.Mapping)) {
+                if (annotations.getValue() instanceof Yaml.Document) {
+                    return false;
+                }
+                annotations = annotations.getParent();
             }
-            return false;
+            if (annotations == null) {
+                return false;
+            }
+            Cursor annotationsEntry = parentTree(annotations);
+            if (!isEntry(annotationsEntry, "annotations")) {
+                return false;
+            }
+            Cursor metadata = parentTree(annotationsEntry);
+            return metadata != null && metadata.getValue() instanceof Yaml.Mapping && isEntry(parentTree(metadata), "metadata");
+        }
+
+        private static @Nullable Cursor parentTree(@Nullable Cursor cursor) {
+            if (cursor == null) {
+                return null;
+            }
+            Cursor parent = cursor.getParent();
+            while (parent != null && !(parent.getValue() instanceof Yaml)) {
+                parent = parent.getParent();
+            }
+            return parent;
+        }
+
+        private static boolean isEntry(@Nullable Cursor cursor, String key) {
+            return cursor != null &&
+                   cursor.getValue() instanceof Yaml.Mapping.Entry &&
+                   key.equals(((Yaml.Mapping.Entry) cursor.getValue()).getKey().getValue());
         }
 
         public boolean valueMatches(String name, Pattern regex, Cursor cursor) {
@@ -292,8 +376,10 @@ public interface K8S {
 
         Set<String> keys;
 
+        private static final Labels EMPTY = new Labels(NO_TREE, emptySet());
+
         public static boolean inLabels(Cursor cursor) {
-            return inMappingEntry("..metadata.labels.*", cursor);
+            return Instrumentation.record("K8S.Labels.inLabels", cursor, c -> inMappingEntry("..metadata.labels.*", c));
         }
 
         public boolean valueMatches(String name, Pattern regex, Cursor cursor) {
@@ -321,7 +407,7 @@ public interface K8S {
         UUID id;
 
         public static boolean inSpec(Cursor cursor) {
-            return inMappingEntry("..spec.*", cursor);
+            return Instrumentation.record("K8S.Pod.inSpec", cursor, c -> inMappingEntry("..spec.*", c));
         }
 
     }
@@ -335,11 +421,11 @@ public interface K8S {
         UUID id;
 
         public static boolean inContainerSpec(Cursor cursor) {
-            return inMappingEntry("$.*..spec.containers[*].*", cursor);
+            return Instrumentation.record("K8S.Containers.inContainerSpec", cursor, c -> inMappingEntry("$.*..spec.containers[*].*", c));
         }
 
         public static boolean isImageName(Cursor cursor) {
-            return cursor.getPathAsStream(o -> (o instanceof Yaml.Mapping.Entry && "image".equals(((Yaml.Mapping.Entry) o).getKey().getValue()))).findFirst().isPresent();
+            return Instrumentation.record("K8S.Containers.isImageName", cursor, c -> c.getPathAsStream(o -> (o instanceof Yaml.Mapping.Entry && "image".equals(((Yaml.Mapping.Entry) o).getKey().getValue()))).findFirst().isPresent());
         }
     }
 
@@ -352,7 +438,7 @@ public interface K8S {
         UUID id;
 
         public static boolean inInitContainerSpec(Cursor cursor) {
-            return inMappingEntry("$.*..spec.initContainers[*].*", cursor);
+            return Instrumentation.record("K8S.InitContainers.inInitContainerSpec", cursor, c -> inMappingEntry("$.*..spec.initContainers[*].*", c));
         }
     }
 
@@ -364,18 +450,21 @@ public interface K8S {
         @With
         UUID id;
 
+        @Nullable
         ResourceLimit value;
 
+        private static final ResourceLimits EMPTY = new ResourceLimits(NO_TREE, null);
+
         public static boolean inResources(Cursor cursor) {
-            return inMappingEntry("$.*..spec.containers[*].resources", cursor);
+            return Instrumentation.record("K8S.ResourceLimits.inResources", cursor, c -> inMappingEntry("$.*..spec.containers[*].resources", c));
         }
 
         public static boolean inLimits(String type, Cursor cursor) {
-            return inMappingEntry("$.*..spec.containers[*].resources.limits." + type, cursor);
+            return Instrumentation.record("K8S.ResourceLimits.inLimits", type, cursor, (t, c) -> inMappingEntry("$.*..spec.containers[*].resources.limits." + t, c));
         }
 
         public static boolean inRequests(String type, Cursor cursor) {
-            return inMappingEntry("$.*..spec.containers[*].resources.requests." + type, cursor);
+            return Instrumentation.record("K8S.ResourceLimits.inRequests", type, cursor, (t, c) -> inMappingEntry("$.*..spec.containers[*].resources.requests." + t, c));
         }
 
     }
@@ -392,17 +481,17 @@ public interface K8S {
         String type;
 
         public static boolean isServiceSpec(Cursor cursor) {
-            return firstEnclosingEntryMatching("$.spec", cursor)
-                    .filter(c -> c == cursor)
-                    .isPresent();
+            return Instrumentation.record("K8S.Service.isServiceSpec", cursor, c -> firstEnclosingEntryMatching("$.spec", c)
+                    .filter(spec -> spec == c)
+                    .isPresent());
         }
 
         public static boolean inServiceSpec(Cursor cursor) {
-            return inMappingEntry("$.spec", cursor);
+            return Instrumentation.record("K8S.Service.inServiceSpec", cursor, c -> inMappingEntry("$.spec", c));
         }
 
         public static boolean inExternalIPs(Cursor cursor) {
-            return cursor.getPathAsStream(o -> o instanceof Yaml.Mapping.Entry && "externalIPs".equals(((Yaml.Mapping.Entry) o).getKey().getValue())).findFirst().isPresent();
+            return Instrumentation.record("K8S.Service.inExternalIPs", cursor, c -> c.getPathAsStream(o -> o instanceof Yaml.Mapping.Entry && "externalIPs".equals(((Yaml.Mapping.Entry) o).getKey().getValue())).findFirst().isPresent());
         }
     }
 
@@ -415,22 +504,26 @@ public interface K8S {
         UUID id;
 
         public static boolean isTlsConfigured(Cursor cursor) {
-            Optional<Object> tls = new JsonPathMatcher("$.spec.tls[*].hosts").find(cursor);
-            return tls.isPresent();
+            return Instrumentation.record("K8S.Ingress.isTlsConfigured", cursor, c -> {
+                Optional<Object> tls = JsonPathMatchers.compile("$.spec.tls[*].hosts").find(c);
+                return tls.isPresent();
+            });
         }
 
         public static boolean isDisallowHttpConfigured(Cursor cursor) {
-            Optional<Object> tls =
-                    new JsonPathMatcher("$.metadata.annotations['kubernetes.io/ingress.allow-http']").find(cursor);
-            return tls.map(o -> {
-                if (o instanceof Yaml.Mapping.Entry) {
-                    Yaml.Mapping.Entry e = (Yaml.Mapping.Entry) o;
-                    if (e.getValue() instanceof Yaml.Scalar) {
-                        return "false".equals(((Yaml.Scalar) e.getValue()).getValue());
+            return Instrumentation.record("K8S.Ingress.isDisallowHttpConfigured", cursor, c -> {
+                Optional<Object> tls =
+                        JsonPathMatchers.compile("$.metadata.annotations['kubernetes.io/ingress.allow-http']").find(c);
+                return tls.map(o -> {
+                    if (o instanceof Yaml.Mapping.Entry) {
+                        Yaml.Mapping.Entry e = (Yaml.Mapping.Entry) o;
+                        if (e.getValue() instanceof Yaml.Scalar) {
+                            return "false".equals(((Yaml.Scalar) e.getValue()).getValue());
+                        }
                     }
-                }
-                return false;
-            }).orElse(false);
+                    return false;
+                }).orElse(false);
+            });
         }
     }
 
@@ -443,7 +536,7 @@ public interface K8S {
         UUID id;
 
         public static boolean inRules(Cursor cursor) {
-            return inMappingEntry("$.rules", cursor);
+            return Instrumentation.record("K8S.RBAC.inRules", cursor, c -> inMappingEntry("$.rules", c));
         }
     }
 
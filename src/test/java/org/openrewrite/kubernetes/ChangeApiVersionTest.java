@@ -59,4 +59,56 @@ class ChangeApiVersionTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void onlyRootApiVersionIsChanged() {
+        rewriteRun(
+          //language=YAML
+          yaml(
+            """
+              apiVersion: flowcontrol.apiserver.k8s.io/v1beta3
+              kind: FlowSchema
+              metadata:
+                ownerReferences:
+                - apiVersion: flowcontrol.apiserver.k8s.io/v1beta3
+                  kind: PriorityLevelConfiguration
+              """,
+            """
+              apiVersion: flowcontrol.apiserver.k8s.io/v1
+              kind: FlowSchema
+              metadata:
+                ownerReferences:
+                - apiVersion: flowcontrol.apiserver.k8s.io/v1beta3
+                  kind: PriorityLevelConfiguration
+              """
+          )
+        );
+    }
+
+    @Test
+    void onlyMatchingFiles() {
+        rewriteRun(
+          spec -> spec.recipe(new ChangeApiVersion(
+            "flowcontrol.apiserver.k8s.io/v1beta3",
+            "flowcontrol.apiserver.k8s.io/v1",
+            "**/flowcontrol/*.yaml")),
+          //language=YAML
+          yaml(
+            """
+              apiVersion: flowcontrol.apiserver.k8s.io/v1beta3
+              """,
+            """
+              apiVersion: flowcontrol.apiserver.k8s.io/v1
+              """,
+            spec -> spec.path("deploy/flowcontrol/schema.yaml")
+          ),
+          //language=YAML
+          yaml(
+            """
+              apiVersion: flowcontrol.apiserver.k8s.io/v1beta3
+              """,
+            spec -> spec.path("deploy/other/schema.yaml")
+          )
+        );
+    }
 }
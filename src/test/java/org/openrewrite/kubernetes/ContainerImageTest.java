@@ -75,6 +75,26 @@ class ContainerImageTest {
         assertThat(image.getImageName().getDigest()).isEqualTo("sha:1234567890");
     }
 
+    @Test
+    void parseRegistryWithPort() {
+        ContainerImage image = new ContainerImage("registry:5000/account/image:v1@sha256:1234");
+        assertThat(image.getImageName().getRepository()).isEqualTo("registry:5000/account");
+        assertThat(image.getImageName().getImage()).isEqualTo("image");
+        assertThat(image.getImageName().getTag()).isEqualTo("v1");
+        assertThat(image.getImageName().getDigest()).isEqualTo("sha256:1234");
+
+        ContainerImage untagged = new ContainerImage("registry:5000/image");
+        assertThat(untagged.getImageName().getRepository()).isEqualTo("registry:5000");
+        assertThat(untagged.getImageName().getImage()).isEqualTo("image");
+        assertThat(untagged.getImageName().getTag()).isNull();
+        assertThat(untagged.getImageName()).hasToString("registry:5000/image");
+    }
+
+    @Test
+    void internRepeatedReferences() {
+        assertThat(ContainerImage.of("nginx:1.25")).isSameAs(ContainerImage.of("nginx:1.25"));
+    }
+
     @Test
     void outputCorrectImageName() {
         ContainerImage.ImageName image = new ContainerImage.ImageName(
@@ -85,4 +105,41 @@ class ContainerImageTest {
         );
         assertThat(image.toString()).isEqualTo("repo.io/account/bucket/image:v1.2.3@digest");
     }
+
+    @Test
+    void matchGlobComponents() {
+        ImageNameMatcher matcher = new ImageNameMatcher(new ContainerImage.ImageName("repo.io/*", "image", "v1.*", "*"));
+        assertThat(matcher.matches(new ContainerImage("repo.io/account/bucket/image:v1.2.3@digest").getImageName())).isTrue();
+        assertThat(matcher.matches(new ContainerImage("repo.io/account/team/image:v1.4").getImageName())).isTrue();
+        assertThat(matcher.matches(new ContainerImage("repo.io/account/bucket/image:v2.0").getImageName())).isFalse();
+        assertThat(matcher.matches(new ContainerImage("other.io/account/bucket/image:v1.2.3").getImageName())).isFalse();
+    }
+
+    @Test
+    void matchExactComponents() {
+        ImageNameMatcher matcher = new ImageNameMatcher(new ContainerImage.ImageName(null, "nginx", "latest", null));
+        assertThat(matcher.matches(new ContainerImage("nginx:latest").getImageName())).isTrue();
+        assertThat(matcher.matches(new ContainerImage("nginx:latest@sha256:abc").getImageName())).isFalse();
+        assertThat(matcher.matches(new ContainerImage("library/nginx:latest").getImageName())).isFalse();
+    }
+
+    @Test
+    void bracketExpressionsFollowJavaGlobSyntax() {
+        ImageNameMatcher negated = new ImageNameMatcher(new ContainerImage.ImageName(null, "nginx", "[!l]*", null));
+        assertThat(negated.matches(new ContainerImage("nginx:1.25").getImageName())).isTrue();
+        assertThat(negated.matches(new ContainerImage("nginx:latest").getImageName())).isFalse();
+
+        ImageNameMatcher caret = new ImageNameMatcher(new ContainerImage.ImageName(null, "nginx", "[^l]*", null));
+        assertThat(caret.matches(new ContainerImage("nginx:latest").getImageName())).isTrue();
+        assertThat(caret.matches(new ContainerImage("nginx:^1").getImageName())).isTrue();
+        assertThat(caret.matches(new ContainerImage("nginx:1.25").getImageName())).isFalse();
+    }
+
+    @Test
+    void shareMatchersForTheSameSearchName() {
+        ContainerImage.ImageName search = new ContainerImage.ImageName("repo.io/*", "image", "v1.*", "*");
+        assertThat(ImageNameMatcher.of(search))
+          .isSameAs(ImageNameMatcher.of(new ContainerImage.ImageName("repo.io/*", "image", "v1.*", "*")));
+        assertThat(new ContainerImage("repo.io/account/bucket/image:v1.2").getImageName().matches(search)).isTrue();
+    }
 }
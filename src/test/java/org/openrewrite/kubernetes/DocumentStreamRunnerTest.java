@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.kubernetes;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Parser;
+import org.openrewrite.SourceFile;
+import org.openrewrite.text.CreateTextFile;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.stream.Collectors.joining;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class DocumentStreamRunnerTest {
+
+    @Test
+    void runRecipeOnBatchesOfDocuments() {
+        //language=yml
+        String manifests = """
+          apiVersion: batch/v1beta1
+          kind: CronJob
+          metadata:
+            name: first
+          ---
+          apiVersion: v1
+          kind: Service
+          metadata:
+            name: unchanged
+          ---
+          apiVersion: batch/v1beta1
+          kind: CronJob
+          metadata:
+            name: last
+          """;
+
+        InMemoryExecutionContext ctx = new InMemoryExecutionContext();
+        List<SourceFile> after = new ArrayList<>();
+        new DocumentStreamRunner(new ChangeApiVersion("batch/v1beta1", "batch/v1", null), 2).run(
+          KubernetesParser.builder().build().parseDocuments(Parser.Input.fromString(Paths.get("jobs.yaml"), manifests), null, ctx),
+          ctx,
+          after::add);
+
+        assertThat(after).hasSize(3);
+        assertThat(after.stream().map(SourceFile::printAll).collect(joining())).isEqualTo("""
+          apiVersion: batch/v1
+          kind: CronJob
+          metadata:
+            name: first
+          ---
+          apiVersion: v1
+          kind: Service
+          metadata:
+            name: unchanged
+          ---
+          apiVersion: batch/v1
+          kind: CronJob
+          metadata:
+            name: last
+          """);
+    }
+
+    @Test
+    void generatedFilesFollowTheirBatch() {
+        //language=yml
+        String manifests = """
+          apiVersion: v1
+          kind: Service
+          ---
+          apiVersion: v1
+          kind: ConfigMap
+          ---
+          apiVersion: v1
+          kind: Secret
+          """;
+
+        InMemoryExecutionContext ctx = new InMemoryExecutionContext();
+        List<SourceFile> after = new ArrayList<>();
+        new DocumentStreamRunner(new CreateTextFile("generated", "notes.txt", false), 2).run(
+          KubernetesParser.builder().build().parseDocuments(Parser.Input.fromString(Paths.get("manifests.yaml"), manifests), null, ctx),
+          ctx,
+          after::add);
+
+        assertThat(after).map(sourceFile -> sourceFile.getSourcePath().toString())
+          .containsExactly("manifests.yaml#0", "manifests.yaml#1", "notes.txt", "manifests.yaml#2", "notes.txt");
+    }
+
+    @Test
+    void batchSizeMustBePositive() {
+        assertThatIllegalArgumentException().isThrownBy(() ->
+          new DocumentStreamRunner(new ChangeApiVersion("batch/v1beta1", "batch/v1", null), 0));
+    }
+}
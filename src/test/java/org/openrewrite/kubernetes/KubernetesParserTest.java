@@ -16,11 +16,19 @@
 package org.openrewrite.kubernetes;
 
 import org.junit.jupiter.api.Test;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Parser;
+import org.openrewrite.SourceFile;
 import org.openrewrite.kubernetes.tree.KubernetesModel;
 import org.openrewrite.yaml.tree.Yaml;
 
+import java.nio.file.Paths;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 
 class KubernetesParserTest extends KubernetesRecipeTest {
@@ -63,4 +71,108 @@ class KubernetesParserTest extends KubernetesRecipeTest {
         assertThat(model.getMetadata().getLabels())
           .containsExactlyEntriesOf(Map.of("label-one", "value-one"));
     }
+
+    @Test
+    void onlyTopLevelMetadataContributesToModel() {
+        //language=yml
+        String manifest = """
+            apiVersion: apps/v1
+            kind: Deployment
+            metadata:
+              name: web
+              namespace: prod
+              labels:
+                app: web
+            spec:
+              template:
+                metadata:
+                  labels:
+                    app: web
+                    tier: frontend
+                  annotations:
+                    prometheus.io/scrape: "true"
+                spec:
+                  containers:
+                    - name: web
+                      image: nginx:latest
+        """;
+
+        KubernetesModel model = getModel(
+          KubernetesParser.builder().build().parse(manifest).map(Yaml.Documents.class::cast).findFirst().get().getDocuments().get(0));
+        assertThat(model.getKind()).isEqualTo("Deployment");
+        assertThat(model.getMetadata().getNamespace()).isEqualTo("prod");
+        assertThat(model.getMetadata().getName()).isEqualTo("web");
+        assertThat(model.getMetadata().getLabels())
+          .containsExactlyEntriesOf(Map.of("app", "web"));
+        assertThat(model.getMetadata().getAnnotations()).isNull();
+    }
+
+    @Test
+    void parseDocumentsOneAtATime() {
+        //language=yml
+        String manifests = """
+            # rendered chart
+            apiVersion: v1
+            kind: Service
+            metadata:
+              name: web
+            ---
+            apiVersion: apps/v1
+            kind: Deployment
+            metadata:
+              name: web
+            spec:
+              template:
+                spec:
+                  containers:
+                    - name: web
+                      image: nginx:latest
+            --- # the config
+            apiVersion: v1
+            kind: ConfigMap
+            metadata:
+              name: config
+            data:
+              separator: "---"
+            """;
+
+        List<SourceFile> documents;
+        try (Stream<SourceFile> parsed = KubernetesParser.builder().build().parseDocuments(
+          Parser.Input.fromString(Paths.get("chart.yaml"), manifests), null, new InMemoryExecutionContext())) {
+            documents = parsed.collect(toList());
+        }
+
+        assertThat(documents).map(document -> document.getSourcePath().toString())
+          .containsExactly("chart.yaml#0", "chart.yaml#1", "chart.yaml#2");
+        assertThat(documents)
+          .map(document -> getModel(((Yaml.Documents) document).getDocuments().get(0)).getKind())
+          .containsExactly("Service", "Deployment", "ConfigMap");
+        assertThat(documents.stream().map(SourceFile::printAll).collect(joining())).isEqualTo(manifests);
+    }
+
+    @Test
+    void directivesStayWithTheirDocument() {
+        //language=yml
+        String manifests = """
+            %YAML 1.2
+            ---
+            apiVersion: v1
+            kind: Service
+            ...
+            %YAML 1.2
+            ---
+            apiVersion: v1
+            kind: ConfigMap
+            """;
+
+        List<SourceFile> documents;
+        try (Stream<SourceFile> parsed = KubernetesParser.builder().build().parseDocuments(
+          Parser.Input.fromString(Paths.get("manifests.yaml"), manifests), null, new InMemoryExecutionContext())) {
+            documents = parsed.collect(toList());
+        }
+
+        assertThat(documents)
+          .map(document -> getModel(((Yaml.Documents) document).getDocuments().get(0)).getKind())
+          .containsExactly("Service", "ConfigMap");
+    }
 }
@@ -0,0 +1,400 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.kubernetes;
+
+import org.openrewrite.Parser;
+
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Generates reproducible Kubernetes manifests for load tests and benchmarks. The same settings and seed
+ * always produce the same documents, which are generated lazily so that corpora of millions of documents
+ * can be streamed rather than held in memory.
+ */
+public final class ManifestGenerator {
+
+    public enum Kind {
+        DEPLOYMENT,
+        STATEFUL_SET,
+        CRON_JOB,
+        SERVICE,
+        INGRESS,
+        ROLE,
+        CONFIG_MAP,
+        CUSTOM_RESOURCE_DEFINITION
+    }
+
+    private static final String[] DEFAULT_IMAGES = {
+      "nginx:1.25",
+      "redis:7.2",
+      "busybox",
+      "registry.example.com/team/app:1.0",
+      "registry.example.com/team/worker:latest",
+      "gcr.io/project/service@sha256:cb5c1bddd1b5665e1867a7fa1b5fa843a47ee433bbb75d4293888b71def53229"
+    };
+
+    private long seed;
+    private int documents = 100;
+    private int documentsPerFile = 1;
+    private Kind[] kinds = {Kind.DEPLOYMENT, Kind.STATEFUL_SET, Kind.SERVICE, Kind.INGRESS, Kind.ROLE,
+      Kind.CONFIG_MAP, Kind.CUSTOM_RESOURCE_DEFINITION};
+    private int nestingDepth = 2;
+    private int propertiesPerLevel = 3;
+    private int labelsPerResource = 3;
+    private int labelCardinality = 10;
+    private int minContainers = 1;
+    private int maxContainers = 3;
+    private String[] images = DEFAULT_IMAGES;
+    private double imageSkew;
+
+    public static ManifestGenerator manifests() {
+        return new ManifestGenerator();
+    }
+
+    public ManifestGenerator seed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    public ManifestGenerator documents(int documents) {
+        this.documents = documents;
+        return this;
+    }
+
+    /**
+     * @param documentsPerFile The number of {@code ---}-separated documents in each generated file.
+     */
+    public ManifestGenerator documentsPerFile(int documentsPerFile) {
+        this.documentsPerFile = documentsPerFile;
+        return this;
+    }
+
+    /**
+     * @param kinds The kinds of resource to generate, in turn.
+     */
+    public ManifestGenerator kinds(Kind... kinds) {
+        this.kinds = kinds;
+        return this;
+    }
+
+    /**
+     * @param nestingDepth       How many levels of object properties custom resource schemas nest.
+     * @param propertiesPerLevel How many properties each level of a schema declares.
+     */
+    public ManifestGenerator nesting(int nestingDepth, int propertiesPerLevel) {
+        this.nestingDepth = nestingDepth;
+        this.propertiesPerLevel = propertiesPerLevel;
+        return this;
+    }
+
+    /**
+     * @param labelsPerResource The number of labels, besides {@code app}, on each resource and pod template.
+     * @param labelCardinality  The number of distinct values each label takes across the corpus.
+     */
+    public ManifestGenerator labels(int labelsPerResource, int labelCardinality) {
+        this.labelsPerResource = labelsPerResource;
+        this.labelCardinality = labelCardinality;
+        return this;
+    }
+
+    public ManifestGenerator containers(int minContainers, int maxContainers) {
+        this.minContainers = minContainers;
+        this.maxContainers = maxContainers;
+        return this;
+    }
+
+    /**
+     * @param skew   The exponent of a Zipf distribution over the images, so that the first images are the most
+     *               common. {@code 0} picks images uniformly.
+     * @param images The image references containers use.
+     */
+    public ManifestGenerator images(double skew, String... images) {
+        this.imageSkew = skew;
+        this.images = images;
+        return this;
+    }
+
+    /**
+     * @return Each generated document, without a document separator.
+     */
+    public Stream<String> stream() {
+        return StreamSupport.stream(Spliterators.spliterator(new DocumentIterator(), documents,
+          Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * @return The generated documents grouped into files of {@link #documentsPerFile(int)} documents each.
+     */
+    public Stream<Parser.Input> inputs() {
+        Iterator<String> generated = new DocumentIterator();
+        Iterator<Parser.Input> files = new Iterator<Parser.Input>() {
+            int file;
+
+            @Override
+            public boolean hasNext() {
+                return generated.hasNext();
+            }
+
+            @Override
+            public Parser.Input next() {
+                StringBuilder yaml = new StringBuilder();
+                for (int i = 0; i < documentsPerFile && generated.hasNext(); i++) {
+                    if (i > 0) {
+                        yaml.append("---\n");
+                    }
+                    yaml.append(generated.next());
+                }
+                return Parser.Input.fromString(Paths.get("generated", "manifest-" + file++ + ".yaml"), yaml.toString());
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(files, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * @return All generated documents as a single multi-document stream, for use as a rewrite-test source.
+     */
+    public String yaml() {
+        StringBuilder yaml = new StringBuilder();
+        Iterator<String> generated = new DocumentIterator();
+        while (generated.hasNext()) {
+            if (yaml.length() > 0) {
+                yaml.append("---\n");
+            }
+            yaml.append(generated.next());
+        }
+        return yaml.toString();
+    }
+
+    private class DocumentIterator implements Iterator<String> {
+        private final Random random = new Random(seed);
+        private final double[] imageWeights = cumulativeImageWeights();
+        private int generated;
+
+        @Override
+        public boolean hasNext() {
+            return generated < documents;
+        }
+
+        @Override
+        public String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int n = generated++;
+            StringBuilder yaml = new StringBuilder();
+            switch (kinds[n % kinds.length]) {
+                case DEPLOYMENT -> deployment(yaml, n);
+                case STATEFUL_SET -> statefulSet(yaml, n);
+                case CRON_JOB -> cronJob(yaml, n);
+                case SERVICE -> service(yaml, n);
+                case INGRESS -> ingress(yaml, n);
+                case ROLE -> role(yaml, n);
+                case CONFIG_MAP -> configMap(yaml, n);
+                case CUSTOM_RESOURCE_DEFINITION -> customResourceDefinition(yaml, n);
+            }
+            return yaml.toString();
+        }
+
+        private void deployment(StringBuilder yaml, int n) {
+            String name = "deployment-" + n;
+            yaml.append("apiVersion: apps/v1\nkind: Deployment\n");
+            metadata(yaml, "", name, true);
+            yaml.append("spec:\n  replicas: ").append(1 + random.nextInt(5)).append('\n');
+            selector(yaml, name);
+            yaml.append("  template:\n");
+            podTemplate(yaml, "    ", name);
+        }
+
+        private void statefulSet(StringBuilder yaml, int n) {
+            String name = "statefulset-" + n;
+            yaml.append("apiVersion: apps/v1\nkind: StatefulSet\n");
+            metadata(yaml, "", name, true);
+            yaml.append("spec:\n  serviceName: ").append(name).append('\n');
+            yaml.append("  replicas: ").append(1 + random.nextInt(5)).append('\n');
+            selector(yaml, name);
+            yaml.append("  template:\n");
+            podTemplate(yaml, "    ", name);
+            yaml.append("  volumeClaimTemplates:\n");
+            yaml.append("  - metadata:\n      name: data\n");
+            yaml.append("    spec:\n      accessModes: [\"ReadWriteOnce\"]\n");
+            yaml.append("      resources:\n        requests:\n          storage: ").append(1 + random.nextInt(100)).append("Gi\n");
+        }
+
+        private void cronJob(StringBuilder yaml, int n) {
+            String name = "cronjob-" + n;
+            yaml.append("apiVersion: batch/v1\nkind: CronJob\n");
+            metadata(yaml, "", name, true);
+            yaml.append("spec:\n  schedule: \"*/").append(5 + random.nextInt(55)).append(" * * * *\"\n");
+            yaml.append("  jobTemplate:\n");
+            metadata(yaml, "    ", name, false);
+            yaml.append("    spec:\n      template:\n");
+            podTemplate(yaml, "        ", name);
+        }
+
+        private void service(StringBuilder yaml, int n) {
+            String name = "service-" + n;
+            yaml.append("apiVersion: v1\nkind: Service\n");
+            metadata(yaml, "", name, true);
+            yaml.append("spec:\n  type: ").append(pick("ClusterIP", "ClusterIP", "NodePort", "LoadBalancer")).append('\n');
+            yaml.append("  selector:\n    app: ").append(name).append('\n');
+            yaml.append("  ports:\n  - port: 80\n    targetPort: ").append(8000 + random.nextInt(1000)).append('\n');
+            if (random.nextInt(4) == 0) {
+                yaml.append("  externalIPs:\n  - 10.0.").append(random.nextInt(256)).append('.').append(1 + random.nextInt(254)).append('\n');
+            }
+        }
+
+        private void ingress(StringBuilder yaml, int n) {
+            String name = "ingress-" + n;
+            yaml.append("apiVersion: networking.k8s.io/v1\nkind: Ingress\n");
+            metadata(yaml, "", name, true);
+            yaml.append("spec:\n");
+            if (random.nextBoolean()) {
+                yaml.append("  tls:\n  - hosts:\n    - ").append(name).append(".example.com\n");
+                yaml.append("    secretName: ").append(name).append("-tls\n");
+            }
+            yaml.append("  rules:\n  - host: ").append(name).append(".example.com\n");
+            yaml.append("    http:\n      paths:\n      - path: /\n        pathType: Prefix\n");
+            yaml.append("        backend:\n          service:\n            name: service-").append(random.nextInt(documents)).append('\n');
+            yaml.append("            port:\n              number: 80\n");
+        }
+
+        private void role(StringBuilder yaml, int n) {
+            yaml.append("apiVersion: rbac.authorization.k8s.io/v1\nkind: Role\n");
+            metadata(yaml, "", "role-" + n, true);
+            yaml.append("rules:\n");
+            yaml.append("- apiGroups: [\"\"]\n  resources: [\"").append(pick("pods", "services", "configmaps", "secrets")).append("\"]\n");
+            yaml.append("  verbs: [\"get\", \"list\"").append(random.nextBoolean() ? ", \"watch\"" : "").append("]\n");
+        }
+
+        private void configMap(StringBuilder yaml, int n) {
+            yaml.append("apiVersion: v1\nkind: ConfigMap\n");
+            metadata(yaml, "", "config-" + n, true);
+            yaml.append("data:\n");
+            for (int i = 0, entries = 1 + random.nextInt(10); i < entries; i++) {
+                yaml.append("  key-").append(i).append(": value-").append(random.nextInt(labelCardinality)).append('\n');
+            }
+        }
+
+        private void customResourceDefinition(StringBuilder yaml, int n) {
+            String plural = "widgets" + n;
+            yaml.append("apiVersion: apiextensions.k8s.io/v1\nkind: CustomResourceDefinition\n");
+            metadata(yaml, "", plural + ".example.com", false);
+            yaml.append("spec:\n  group: example.com\n  scope: Namespaced\n");
+            yaml.append("  names:\n    kind: Widget").append(n).append("\n    plural: ").append(plural).append('\n');
+            yaml.append("  versions:\n  - name: v1\n    served: true\n    storage: true\n");
+            yaml.append("    schema:\n      openAPIV3Schema:\n        type: object\n");
+            schemaProperties(yaml, "        ", nestingDepth);
+        }
+
+        private void schemaProperties(StringBuilder yaml, String indent, int depth) {
+            if (depth <= 0) {
+                return;
+            }
+            yaml.append(indent).append("properties:\n");
+            for (int i = 0; i < propertiesPerLevel; i++) {
+                yaml.append(indent).append("  field").append(i).append(":\n");
+                if (depth == 1) {
+                    yaml.append(indent).append("    type: ").append(pick("string", "integer", "boolean")).append('\n');
+                } else {
+                    yaml.append(indent).append("    type: object\n");
+                    schemaProperties(yaml, indent + "    ", depth - 1);
+                }
+            }
+        }
+
+        private void metadata(StringBuilder yaml, String indent, String name, boolean namespaced) {
+            yaml.append(indent).append("metadata:\n");
+            yaml.append(indent).append("  name: ").append(name).append('\n');
+            if (namespaced) {
+                yaml.append(indent).append("  namespace: namespace-").append(random.nextInt(labelCardinality)).append('\n');
+            }
+            labels(yaml, indent + "  ", name);
+            yaml.append(indent).append("  annotations:\n");
+            yaml.append(indent).append("    example.com/owner: team-").append(random.nextInt(labelCardinality)).append('\n');
+        }
+
+        private void labels(StringBuilder yaml, String indent, String name) {
+            yaml.append(indent).append("labels:\n");
+            yaml.append(indent).append("  app: ").append(name).append('\n');
+            for (int i = 0; i < labelsPerResource; i++) {
+                yaml.append(indent).append("  example.com/label-").append(i).append(": value-")
+                  .append(random.nextInt(labelCardinality)).append('\n');
+            }
+        }
+
+        private void selector(StringBuilder yaml, String name) {
+            yaml.append("  selector:\n    matchLabels:\n      app: ").append(name).append('\n');
+        }
+
+        private void podTemplate(StringBuilder yaml, String indent, String name) {
+            yaml.append(indent).append("metadata:\n");
+            labels(yaml, indent + "  ", name);
+            yaml.append(indent).append("spec:\n");
+            if (random.nextInt(4) == 0) {
+                containers(yaml, indent + "  ", "initContainers", 1);
+            }
+            containers(yaml, indent + "  ", "containers", minContainers + random.nextInt(maxContainers - minContainers + 1));
+        }
+
+        private void containers(StringBuilder yaml, String indent, String key, int count) {
+            yaml.append(indent).append(key).append(":\n");
+            for (int c = 0; c < count; c++) {
+                yaml.append(indent).append("- name: container-").append(c).append('\n');
+                yaml.append(indent).append("  image: ").append(image()).append('\n');
+                if (random.nextBoolean()) {
+                    yaml.append(indent).append("  imagePullPolicy: ").append(pick("Always", "IfNotPresent")).append('\n');
+                }
+                if (random.nextInt(5) > 0) {
+                    yaml.append(indent).append("  resources:\n");
+                    yaml.append(indent).append("    requests:\n");
+                    yaml.append(indent).append("      cpu: ").append(pick("100m", "250m", "500m")).append('\n');
+                    yaml.append(indent).append("      memory: ").append(pick("64Mi", "128Mi", "256Mi")).append('\n');
+                    yaml.append(indent).append("    limits:\n");
+                    yaml.append(indent).append("      cpu: ").append(pick("500m", "1", "2")).append('\n');
+                    yaml.append(indent).append("      memory: ").append(pick("256Mi", "512Mi", "1Gi")).append('\n');
+                }
+                yaml.append(indent).append("  env:\n");
+                for (int e = 0, vars = 1 + random.nextInt(4); e < vars; e++) {
+                    yaml.append(indent).append("  - name: VAR_").append(e).append('\n');
+                    yaml.append(indent).append("    value: \"").append(random.nextInt(labelCardinality)).append("\"\n");
+                }
+            }
+        }
+
+        private String image() {
+            double r = random.nextDouble() * imageWeights[imageWeights.length - 1];
+            int i = Arrays.binarySearch(imageWeights, r);
+            return images[Math.min(i < 0 ? -i - 1 : i, images.length - 1)];
+        }
+
+        private String pick(String... values) {
+            return values[random.nextInt(values.length)];
+        }
+
+        private double[] cumulativeImageWeights() {
+            double[] weights = new double[images.length];
+            double total = 0;
+            for (int i = 0; i < images.length; i++) {
+                total += 1 / Math.pow(i + 1, imageSkew);
+                weights[i] = total;
+            }
+            return weights;
+        }
+    }
+}
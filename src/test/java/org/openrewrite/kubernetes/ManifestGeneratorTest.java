@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.kubernetes;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Parser;
+import org.openrewrite.kubernetes.search.FindContainerImages;
+import org.openrewrite.kubernetes.table.ContainerImages;
+import org.openrewrite.yaml.tree.Yaml;
+
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.kubernetes.ManifestGenerator.manifests;
+import static org.openrewrite.yaml.Assertions.yaml;
+
+class ManifestGeneratorTest extends KubernetesRecipeTest {
+
+    @Test
+    void sameSeedGeneratesSameManifests() {
+        assertThat(manifests().seed(42).documents(50).yaml())
+          .isEqualTo(manifests().seed(42).documents(50).yaml())
+          .isNotEqualTo(manifests().seed(43).documents(50).yaml());
+    }
+
+    @Test
+    void generatesRequestedKindsAndFiles() {
+        List<Parser.Input> inputs = manifests()
+          .documents(16)
+          .documentsPerFile(5)
+          .kinds(ManifestGenerator.Kind.DEPLOYMENT, ManifestGenerator.Kind.CRON_JOB)
+          .inputs()
+          .collect(toList());
+        assertThat(inputs).hasSize(4);
+
+        List<String> kinds = KubernetesParser.builder().build()
+          .parseInputs(inputs, null, new InMemoryExecutionContext())
+          .map(Yaml.Documents.class::cast)
+          .flatMap(documents -> documents.getDocuments().stream())
+          .map(document -> getModel(document).getKind())
+          .collect(toList());
+        assertThat(kinds).hasSize(16).containsOnly("Deployment", "CronJob");
+    }
+
+    @Test
+    void everyContainerHasAnImage() {
+        ManifestGenerator generator = manifests()
+          .documents(20)
+          .kinds(ManifestGenerator.Kind.STATEFUL_SET)
+          .containers(2, 2)
+          .images(0, "nginx:1.25");
+        rewriteRun(
+          spec -> spec.recipe(new FindContainerImages(null))
+            .dataTable(ContainerImages.Row.class, rows -> assertThat(rows)
+              .filteredOn(row -> "containers".equals(row.getContainerType()))
+              .hasSize(40)
+              .allMatch(row -> "nginx".equals(row.getImage()) && "1.25".equals(row.getTag()))),
+          yaml(generator.yaml())
+        );
+    }
+}
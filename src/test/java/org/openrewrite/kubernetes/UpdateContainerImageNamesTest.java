@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.kubernetes;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.test.SourceSpecs.text;
+import static org.openrewrite.yaml.Assertions.yaml;
+
+class UpdateContainerImageNamesTest extends KubernetesRecipeTest {
+
+    @DocumentExample
+    @Test
+    void updateImagesFromInlineMappings() {
+        rewriteRun(
+          spec -> spec.recipe(new UpdateContainerImageNames(
+            List.of(
+              "nginx=registry.example.com/mirror/nginx",
+              "redis:6=redis:7",
+              "gcr.io/account/*=registry.example.com/gcr/*"
+            ),
+            null,
+            true,
+            null
+          )),
+          yaml(
+            """
+              apiVersion: v1
+              kind: Pod
+              spec:
+                containers:
+                - image: nginx:1.25
+                - image: redis:6
+                - image: redis:5
+                - image: gcr.io/account/app:v1@sha256:1234
+                initContainers:
+                - image: busybox
+              """,
+            """
+              apiVersion: v1
+              kind: Pod
+              spec:
+                containers:
+                - image: registry.example.com/mirror/nginx:1.25
+                - image: redis:7
+                - image: redis:5
+                - image: registry.example.com/gcr/app:v1@sha256:1234
+                initContainers:
+                - image: busybox
+              """
+          )
+        );
+    }
+
+    @Test
+    void updateImagesFromMappingFile() {
+        rewriteRun(
+          spec -> spec.recipe(new UpdateContainerImageNames(null, "config/image-mappings.csv", false, null)),
+          text(
+            """
+              from,to
+              # mirrored base images
+              nginx,registry.example.com/mirror/nginx
+              busybox,registry.example.com/mirror/busybox
+              """,
+            spec -> spec.path("config/image-mappings.csv")
+          ),
+          yaml(
+            """
+              apiVersion: v1
+              kind: Pod
+              spec:
+                containers:
+                - image: nginx:1.25
+                initContainers:
+                - image: busybox
+              """,
+            """
+              apiVersion: v1
+              kind: Pod
+              spec:
+                containers:
+                - image: registry.example.com/mirror/nginx:1.25
+                initContainers:
+                - image: busybox
+              """
+          )
+        );
+    }
+
+    @Test
+    void updateImagesFromYamlMappingFile() {
+        rewriteRun(
+          spec -> spec.recipe(new UpdateContainerImageNames(null, "image-mappings.yml", false, null)),
+          yaml(
+            """
+              nginx: registry.example.com/mirror/nginx
+              """,
+            spec -> spec.path("image-mappings.yml")
+          ),
+          yaml(
+            """
+              apiVersion: v1
+              kind: Pod
+              spec:
+                containers:
+                - image: nginx
+              """,
+            """
+              apiVersion: v1
+              kind: Pod
+              spec:
+                containers:
+                - image: registry.example.com/mirror/nginx
+              """
+          )
+        );
+    }
+
+    @Test
+    void updateOnlyRepository() {
+        rewriteRun(
+          spec -> spec.recipe(new UpdateContainerImageNames(
+            List.of("gcr.io/account/*=registry.example.com/gcr/", "nginx=registry.example.com/mirror/*"),
+            null,
+            false,
+            null
+          )),
+          yaml(
+            """
+              apiVersion: v1
+              kind: Pod
+              spec:
+                containers:
+                - image: gcr.io/account/app:v1
+                - image: nginx:1.25
+              """,
+            """
+              apiVersion: v1
+              kind: Pod
+              spec:
+                containers:
+                - image: registry.example.com/gcr/app:v1
+                - image: registry.example.com/mirror/nginx:1.25
+              """
+          )
+        );
+    }
+
+    @Test
+    void malformedMappingsAreInvalid() {
+        assertThat(new UpdateContainerImageNames(List.of("nginx"), null, false, null).validate().isInvalid()).isTrue();
+        assertThat(new UpdateContainerImageNames(null, null, false, null).validate().isInvalid()).isTrue();
+        assertThat(new UpdateContainerImageNames(null, "image-mappings.csv", false, null).validate().isValid()).isTrue();
+    }
+}
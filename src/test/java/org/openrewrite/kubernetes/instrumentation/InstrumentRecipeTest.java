@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.kubernetes.instrumentation;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.kubernetes.KubernetesRecipeTest;
+import org.openrewrite.kubernetes.search.FindNonTlsIngress;
+import org.openrewrite.kubernetes.table.RecipePerformance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.yaml.Assertions.yaml;
+
+class InstrumentRecipeTest extends KubernetesRecipeTest {
+
+    @DocumentExample
+    @Test
+    void recordsRecipeAndPredicateStatistics() {
+        rewriteRun(
+          spec -> spec.recipe(new InstrumentRecipe("org.openrewrite.kubernetes.search.FindNonTlsIngress"))
+            .dataTable(RecipePerformance.Row.class, rows -> {
+                assertThat(rows).anySatisfy(row -> {
+                    assertThat(row.getSourcePath()).isEqualTo("ingress.yaml");
+                    assertThat(row.getRecipe()).isEqualTo("org.openrewrite.kubernetes.search.FindNonTlsIngress");
+                    assertThat(row.getPredicate()).isNull();
+                    assertThat(row.getCalls()).isEqualTo(1);
+                    assertThat(row.getMatches()).isEqualTo(1);
+                });
+                assertThat(rows).anySatisfy(row -> {
+                    assertThat(row.getPredicate()).isEqualTo("K8S.inKind");
+                    assertThat(row.getCalls()).isEqualTo(1);
+                    assertThat(row.getMatches()).isEqualTo(1);
+                });
+                assertThat(rows).anySatisfy(row -> {
+                    assertThat(row.getPredicate()).isEqualTo("K8S.Ingress.isTlsConfigured");
+                    assertThat(row.getCalls()).isEqualTo(1);
+                    assertThat(row.getMatches()).isZero();
+                });
+            }),
+          yaml(
+            """
+              apiVersion: networking.k8s.io/v1
+              kind: Ingress
+              metadata:
+                name: demo
+              spec:
+                rules:
+                  - host: example-host.example.com
+              """,
+            """
+              ~~(missing TLS)~~>~~(missing disallow http)~~>apiVersion: networking.k8s.io/v1
+              kind: Ingress
+              metadata:
+                name: demo
+              spec:
+                rules:
+                  - host: example-host.example.com
+              """,
+            spec -> spec.path("ingress.yaml")
+          )
+        );
+    }
+
+    @Test
+    void predicatesAreNotRecordedOutsideInstrumentedRecipes() {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        rewriteRun(
+          spec -> spec.recipe(new FindNonTlsIngress()).executionContext(ctx),
+          yaml(
+            """
+              apiVersion: networking.k8s.io/v1
+              kind: Ingress
+              metadata:
+                name: demo
+                annotations:
+                  kubernetes.io/ingress.allow-http: "false"
+              spec:
+                tls:
+                  - hosts:
+                      - example-host.example.com
+              """
+          )
+        );
+        assertThat(Instrumentation.collector(ctx).drain()).isEmpty();
+    }
+
+    @Test
+    void nestedPredicatesAreChargedTheirOwnTime() {
+        Instrumentation.Collector collector = new Instrumentation.Collector();
+        Instrumentation.Frame previous = Instrumentation.enter(collector, "recipe");
+        try {
+            Instrumentation.record("outer", 20L, millis -> Instrumentation.record("inner", millis, m -> {
+                try {
+                    Thread.sleep(m);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return true;
+            }));
+        } finally {
+            Instrumentation.exit(previous);
+        }
+
+        Instrumentation.Stats outer = collector.stats("recipe", "outer");
+        Instrumentation.Stats inner = collector.stats("recipe", "inner");
+        assertThat(outer.getCalls()).isEqualTo(1);
+        assertThat(inner.getNanos()).isGreaterThanOrEqualTo(20_000_000L);
+        assertThat(outer.getNanos()).isLessThan(inner.getNanos());
+    }
+
+    @Test
+    void unknownRecipeIsInvalid() {
+        assertThat(new InstrumentRecipe("org.openrewrite.kubernetes.DoesNotExist").validate().isInvalid()).isTrue();
+        assertThat(new InstrumentRecipe("org.openrewrite.kubernetes.search.FindNonTlsIngress").validate().isValid()).isTrue();
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.kubernetes.migrate;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.yaml.Assertions.yaml;
+
+class MigrateApiFieldsTest implements RewriteTest {
+
+    @DocumentExample
+    @Test
+    void ingressBackendsAndPathTypes() {
+        rewriteRun(
+          spec -> spec.recipe(new MigrateApiFields("1.22", null)),
+          //language=YAML
+          yaml(
+            """
+              apiVersion: extensions/v1beta1
+              kind: Ingress
+              metadata:
+                name: demo
+              spec:
+                backend:
+                  serviceName: default
+                  servicePort: 80
+                rules:
+                - host: example.com
+                  http:
+                    paths:
+                    - path: /
+                      backend:
+                        serviceName: web
+                        servicePort: http
+              """,
+            """
+              apiVersion: networking.k8s.io/v1
+              kind: Ingress
+              metadata:
+                name: demo
+              spec:
+                defaultBackend:
+                  service:
+                    name: default
+                    port:
+                      number: 80
+                rules:
+                - host: example.com
+                  http:
+                    paths:
+                    - path: /
+                      pathType: ImplementationSpecific
+                      backend:
+                        service:
+                          name: web
+                          port:
+                            name: http
+              """
+          )
+        );
+    }
+
+    @Test
+    void ingressMigratedWithApiVersion() {
+        rewriteRun(
+          spec -> spec.recipeFromResource(
+            "/META-INF/rewrite/deprecated-api-migrations.yml",
+            "org.openrewrite.kubernetes.migrate.MigrateToAPIv1_32"),
+          //language=YAML
+          yaml(
+            """
+              apiVersion: networking.k8s.io/v1beta1
+              kind: Ingress
+              spec:
+                rules:
+                - http:
+                    paths:
+                    - path: /api
+                      pathType: Prefix
+                      backend:
+                        serviceName: api
+                        servicePort: 8080
+              """,
+            """
+              apiVersion: networking.k8s.io/v1
+              kind: Ingress
+              spec:
+                rules:
+                - http:
+                    paths:
+                    - path: /api
+                      pathType: Prefix
+                      backend:
+                        service:
+                          name: api
+                          port:
+                            number: 8080
+              """
+          )
+        );
+    }
+
+    @Test
+    void quotedServicePortIsANumber() {
+        rewriteRun(
+          spec -> spec.recipe(new MigrateApiFields("1.22", null)),
+          //language=YAML
+          yaml(
+            """
+              apiVersion: extensions/v1beta1
+              kind: Ingress
+              spec:
+                backend:
+                  serviceName: default
+                  servicePort: "80"
+              """,
+            """
+              apiVersion: networking.k8s.io/v1
+              kind: Ingress
+              spec:
+                defaultBackend:
+                  service:
+                    name: default
+                    port:
+                      number: 80
+              """
+          )
+        );
+    }
+
+    @Test
+    void ingressUnchangedUnlessEveryBackendAndPathIsMigrated() {
+        rewriteRun(
+          spec -> spec.recipe(new MigrateApiFields("1.22", null)),
+          //language=YAML
+          yaml(
+            """
+              apiVersion: extensions/v1beta1
+              kind: Ingress
+              spec:
+                backend:
+                  serviceName: default
+                  servicePort: 80
+                rules:
+                - http:
+                    paths:
+                    - path: /
+                      backend: {serviceName: web, servicePort: 80}
+              """
+          ),
+          //language=YAML
+          yaml(
+            """
+              apiVersion: networking.k8s.io/v1beta1
+              kind: Ingress
+              spec:
+                rules:
+                - http:
+                    paths:
+                    - backend:
+                        serviceName: web
+                        servicePort: 80
+              """
+          ),
+          //language=YAML
+          yaml(
+            """
+              apiVersion: networking.k8s.io/v1beta1
+              kind: Ingress
+              spec:
+                backend:
+                  serviceName: default
+              """
+          )
+        );
+    }
+
+    @Test
+    void notBeforeRemoval() {
+        rewriteRun(
+          spec -> spec.recipe(new MigrateApiFields("1.21", null)),
+          //language=YAML
+          yaml(
+            """
+              apiVersion: extensions/v1beta1
+              kind: Ingress
+              spec:
+                backend:
+                  serviceName: default
+                  servicePort: 80
+              """
+          )
+        );
+    }
+
+    @Test
+    void concurrencySharesOnlyInFlowControl() {
+        rewriteRun(
+          spec -> spec.recipe(new MigrateApiFields("1.29", null)),
+          //language=YAML
+          yaml(
+            """
+              apiVersion: flowcontrol.apiserver.k8s.io/v1beta2
+              kind: PriorityLevelConfiguration
+              spec:
+                limited:
+                  assuredConcurrencyShares: 30
+              """,
+            """
+              apiVersion: flowcontrol.apiserver.k8s.io/v1beta2
+              kind: PriorityLevelConfiguration
+              spec:
+                limited:
+                  nominalConcurrencyShares: 30
+              """
+          ),
+          //language=YAML
+          yaml(
+            """
+              apiVersion: example.com/v1
+              kind: Widget
+              spec:
+                limited:
+                  assuredConcurrencyShares: 30
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.kubernetes.migrate;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.yaml.Assertions.yaml;
+
+class MigrateApiVersionsTest implements RewriteTest {
+
+    @DocumentExample
+    @Test
+    void followChainToTargetVersion() {
+        rewriteRun(
+          spec -> spec.recipe(new MigrateApiVersions("1.32", null)),
+          yaml(
+            """
+              apiVersion: flowcontrol.apiserver.k8s.io/v1beta1
+              kind: FlowSchema
+              ---
+              apiVersion: batch/v1beta1
+              kind: CronJob
+              """,
+            """
+              apiVersion: flowcontrol.apiserver.k8s.io/v1
+              kind: FlowSchema
+              ---
+              apiVersion: batch/v1
+              kind: CronJob
+              """
+          )
+        );
+    }
+
+    @Test
+    void stopAtTargetVersion() {
+        rewriteRun(
+          spec -> spec.recipe(new MigrateApiVersions("1.26", null)),
+          yaml(
+            """
+              apiVersion: flowcontrol.apiserver.k8s.io/v1beta1
+              kind: FlowSchema
+              """,
+            """
+              apiVersion: flowcontrol.apiserver.k8s.io/v1beta2
+              kind: FlowSchema
+              """
+          )
+        );
+    }
+
+    @Test
+    void kindSpecificMigration() {
+        rewriteRun(
+          spec -> spec.recipe(new MigrateApiVersions("1.32", null)),
+          yaml(
+            """
+              apiVersion: extensions/v1beta1
+              kind: NetworkPolicy
+              ---
+              apiVersion: extensions/v1beta1
+              kind: PodSecurityPolicy
+              """,
+            """
+              apiVersion: networking.k8s.io/v1
+              kind: NetworkPolicy
+              ---
+              apiVersion: extensions/v1beta1
+              kind: PodSecurityPolicy
+              """
+          )
+        );
+    }
+
+    @Test
+    void ingressesAreLeftToMigrateApiFields() {
+        rewriteRun(
+          spec -> spec.recipe(new MigrateApiVersions("1.32", null)),
+          yaml(
+            """
+              apiVersion: extensions/v1beta1
+              kind: Ingress
+              ---
+              apiVersion: networking.k8s.io/v1beta1
+              kind: Ingress
+              ---
+              apiVersion: networking.k8s.io/v1beta1
+              kind: IngressClass
+              """,
+            """
+              apiVersion: extensions/v1beta1
+              kind: Ingress
+              ---
+              apiVersion: networking.k8s.io/v1beta1
+              kind: Ingress
+              ---
+              apiVersion: networking.k8s.io/v1
+              kind: IngressClass
+              """
+          )
+        );
+    }
+
+    @Test
+    void onlyRootApiVersionIsMigrated() {
+        rewriteRun(
+          spec -> spec.recipe(new MigrateApiVersions("1.32", null)),
+          yaml(
+            """
+              apiVersion: apps/v1beta1
+              kind: Deployment
+              metadata:
+                ownerReferences:
+                - apiVersion: apps/v1beta2
+                  kind: ReplicaSet
+              """,
+            """
+              apiVersion: apps/v1
+              kind: Deployment
+              metadata:
+                ownerReferences:
+                - apiVersion: apps/v1beta2
+                  kind: ReplicaSet
+              """
+          )
+        );
+    }
+
+    @Test
+    void chainsAreResolvedUpFront() {
+        ApiVersionMigrations migrations = ApiVersionMigrations.upTo("1.29");
+        assertThat(migrations.migrate("flowcontrol.apiserver.k8s.io/v1beta1", null)).isEqualTo("flowcontrol.apiserver.k8s.io/v1beta3");
+        assertThat(migrations.migrate("flowcontrol.apiserver.k8s.io/v1beta3", null)).isNull();
+        assertThat(migrations.migrate("apps/v1", "Deployment")).isNull();
+    }
+
+    @Test
+    void kindsRemovedWithoutReplacementAreNotMigrated() {
+        rewriteRun(
+          spec -> spec.recipe(new MigrateApiVersions("1.25", null)),
+          yaml(
+            """
+              apiVersion: policy/v1beta1
+              kind: PodSecurityPolicy
+              ---
+              apiVersion: policy/v1beta1
+              kind: PodDisruptionBudget
+              """,
+            """
+              apiVersion: policy/v1beta1
+              kind: PodSecurityPolicy
+              ---
+              apiVersion: policy/v1
+              kind: PodDisruptionBudget
+              """
+          )
+        );
+        assertThat(ApiVersionMigrations.removal("policy/v1beta1", "PodSecurityPolicy"))
+          .extracting(ApiVersionMigrations.Migration::getNewApiVersion).isNull();
+    }
+
+    @Test
+    void rejectMalformedVersion() {
+        assertThat(new MigrateApiVersions("2.0", null).validate().isValid()).isFalse();
+        assertThat(new MigrateApiVersions("v1.32", null).validate().isValid()).isTrue();
+    }
+}
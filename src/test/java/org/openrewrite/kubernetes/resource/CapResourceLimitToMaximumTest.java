@@ -60,7 +60,7 @@ class CapResourceLimitToMaximumTest extends KubernetesRecipeTest {
                   resources:
                       limits:
                           cpu: "500Mi"
-                          memory: "67M"
+                          memory: "64Mi"
               """
           )
         );
@@ -107,4 +107,38 @@ class CapResourceLimitToMaximumTest extends KubernetesRecipeTest {
           )
         );
     }
+
+    @Test
+    void capToFractionOfCoarserUnit() {
+        rewriteRun(
+          spec -> spec.recipe(new CapResourceValueToMaximum(
+            "limits",
+            "cpu",
+            "500m",
+            null
+          )),
+          yaml(
+            """
+              apiVersion: v1
+              kind: Pod
+              spec:
+                containers:
+                - image: nginx:latest
+                  resources:
+                      limits:
+                          cpu: "2"
+              """,
+            """
+              apiVersion: v1
+              kind: Pod
+              spec:
+                containers:
+                - image: nginx:latest
+                  resources:
+                      limits:
+                          cpu: "500m"
+              """
+          )
+        );
+    }
 }
@@ -60,7 +60,7 @@ class FindExceedsResourceLimitTest extends KubernetesRecipeTest {
                   resources:
                       limits:
                           cpu: "500Mi"
-                          memory: ~~(exceeds maximum of 64M)~~>"256m"
+                          memory: ~~(exceeds maximum of 64m)~~>"256m"
               """
           )
         );
@@ -143,7 +143,7 @@ class FindExceedsResourceLimitTest extends KubernetesRecipeTest {
                 - image: nginx:latest
                   resources:
                       requests:
-                          cpu: ~~(exceeds maximum of 100M)~~>"500Mi"
+                          cpu: ~~(exceeds maximum of 100m)~~>"500Mi"
                           memory: "256m"
               """
           )
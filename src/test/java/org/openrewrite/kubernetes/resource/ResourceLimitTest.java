@@ -15,13 +15,14 @@
  */
 package org.openrewrite.kubernetes.resource;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
-
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class ResourceLimitTest {
 
@@ -32,7 +33,85 @@ class ResourceLimitTest {
           .forEach(i -> {
               var value = new ResourceLimit.ResourceValue(i + unit.toString());
               assertThat(value.getUnit()).isEqualTo(unit);
+              assertThat(value).hasToString(i + unit.toString());
+          });
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = ResourceLimit.ResourceValue.Unit.class, mode = EnumSource.Mode.EXCLUDE, names = "Milli")
+    void wholeUnitsShouldConvertToAbsoluteValue(ResourceLimit.ResourceValue.Unit unit) {
+        Stream.of(10L, 100L, 1000L)
+          .forEach(i -> {
+              var value = new ResourceLimit.ResourceValue(i + unit.toString());
               assertThat(unit.fromAbsoluteValue(value.getAbsoluteValue())).isEqualTo(i);
           });
     }
+
+    @Test
+    void suffixesAreCaseSensitive() {
+        assertThat(new ResourceLimit.ResourceValue("500m").getMilliValue()).isEqualTo(500);
+        assertThat(new ResourceLimit.ResourceValue("500M").getAbsoluteValue()).isEqualTo(500_000_000L);
+        assertThat(new ResourceLimit.ResourceValue("2").getMilliValue()).isEqualTo(2_000);
+    }
+
+    @Test
+    void fractionsAndExponents() {
+        assertThat(new ResourceLimit.ResourceValue("1.5Gi").getAbsoluteValue()).isEqualTo(1_610_612_736L);
+        assertThat(new ResourceLimit.ResourceValue("0.1")).hasToString("100m");
+        assertThat(new ResourceLimit.ResourceValue("1e3").getUnit()).isEqualTo(ResourceLimit.ResourceValue.Unit.K);
+        assertThat(new ResourceLimit.ResourceValue("12e6").getAbsoluteValue()).isEqualTo(12_000_000L);
+        assertThat(new ResourceLimit.ResourceValue("2E").getAbsoluteValue()).isEqualTo(2_000_000_000_000_000_000L);
+        assertThat(new ResourceLimit.ResourceValue("1Ei").getAbsoluteValue()).isEqualTo(1L << 60);
+    }
+
+    @Test
+    void subMilliPrecisionRoundsUp() {
+        assertThat(new ResourceLimit.ResourceValue("100n").getMilliValue()).isEqualTo(1);
+        assertThat(new ResourceLimit.ResourceValue("1.0001").getMilliValue()).isEqualTo(1_001);
+    }
+
+    @Test
+    void compareAcrossUnits() {
+        assertThat(new ResourceLimit("1").exceeds(new ResourceLimit.ResourceValue("999m"))).isTrue();
+        assertThat(new ResourceLimit("1").exceeds(new ResourceLimit.ResourceValue("1000m"))).isFalse();
+        assertThat(new ResourceLimit("1Gi").exceeds(new ResourceLimit.ResourceValue("1073741823"))).isTrue();
+        assertThat(new ResourceLimit("9000P").exceeds(new ResourceLimit.ResourceValue("9E"))).isFalse();
+    }
+
+    @Test
+    void formatFractionsInAnExactUnit() {
+        assertThat(new ResourceLimit.ResourceValue("1.5Gi")).hasToString("1536Mi");
+        assertThat(new ResourceLimit.ResourceValue("1.5Ki")).hasToString("1536");
+        assertThat(new ResourceLimit.ResourceValue("1.5k")).hasToString("1500");
+        assertThat(new ResourceLimit.ResourceValue("2.5M")).hasToString("2500k");
+        assertThat(new ResourceLimit.ResourceValue("1500m")).hasToString("1500m");
+    }
+
+    @Test
+    void convertToUnitsThatRepresentTheQuantityExactly() {
+        var none = ResourceLimit.ResourceValue.Unit.None;
+        assertThat(new ResourceLimit.ResourceValue("2Gi").convertTo(ResourceLimit.ResourceValue.Unit.Mi)).hasToString("2048Mi");
+        assertThat(new ResourceLimit.ResourceValue("500m").convertTo(none)).hasToString("500m");
+        assertThat(new ResourceLimit.ResourceValue("1500m").convertTo(none)).hasToString("1500m");
+        assertThat(new ResourceLimit.ResourceValue("2000m").convertTo(none)).hasToString("2");
+        assertThat(new ResourceLimit.ResourceValue("64Mi").convertTo(ResourceLimit.ResourceValue.Unit.M)).hasToString("64Mi");
+        assertThat(new ResourceLimit.ResourceValue("1.5Gi").convertTo(ResourceLimit.ResourceValue.Unit.Gi)).hasToString("1536Mi");
+    }
+
+    @Test
+    void shareRepeatedQuantities() {
+        assertThat(ResourceLimit.of("500m")).isSameAs(ResourceLimit.of("500m"));
+        assertThat(ResourceLimit.of("1Gi")).isEqualTo(new ResourceLimit("1Gi"));
+    }
+
+    @Test
+    void largeQuantitiesSaturate() {
+        assertThat(new ResourceLimit.ResourceValue("100E").getAbsoluteValue()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void rejectUnknownSuffixes() {
+        assertThatThrownBy(() -> new ResourceLimit.ResourceValue("2X")).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> new ResourceLimit.ResourceValue("Mi")).isInstanceOf(NumberFormatException.class);
+    }
 }
@@ -137,4 +137,41 @@ class FindAnnotationTest extends KubernetesRecipeTest {
           )
         );
     }
+
+    @Test
+    void onlyTheNamedAnnotationIsMarked() {
+        rewriteRun(
+          spec -> spec.recipe(new FindAnnotation(
+            "mycompany.io/annotation",
+            null,
+            null
+          )),
+          yaml(
+            """
+              apiVersion: v1
+              kind: Pod
+              metadata:
+                name: mypod
+                labels:
+                  mycompany.io/annotation: "label"
+                annotations:
+                  mycompany.io/owner: "team"
+                  mycompany.io/annotation: "hasvalue"
+                  mycompany.io/revision: "2"
+              """,
+            """
+              apiVersion: v1
+              kind: Pod
+              metadata:
+                name: mypod
+                labels:
+                  mycompany.io/annotation: "label"
+                annotations:
+                  mycompany.io/owner: "team"
+                  ~~(found:mycompany.io/annotation)~~>mycompany.io/annotation: "hasvalue"
+                  mycompany.io/revision: "2"
+              """
+          )
+        );
+    }
 }
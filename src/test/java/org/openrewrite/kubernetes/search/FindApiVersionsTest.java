@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.kubernetes.search;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.kubernetes.KubernetesRecipeTest;
+import org.openrewrite.kubernetes.table.ApiVersions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.yaml.Assertions.yaml;
+
+class FindApiVersionsTest extends KubernetesRecipeTest {
+
+    @DocumentExample
+    @Test
+    void histogramOfApiVersionsAndKinds() {
+        rewriteRun(
+          spec -> spec.recipe(new FindApiVersions("1.25", null))
+            .dataTable(ApiVersions.Row.class, rows -> assertThat(rows).containsExactly(
+              new ApiVersions.Row("apps/v1", "Deployment", 2, null, null, false),
+              new ApiVersions.Row("batch/v1beta1", "CronJob", 1, "1.25", "batch/v1", true),
+              new ApiVersions.Row("extensions/v1beta1", "Ingress", 1, "1.22", "networking.k8s.io/v1", true),
+              new ApiVersions.Row("flowcontrol.apiserver.k8s.io/v1beta1", "FlowSchema", 1, "1.26",
+                "flowcontrol.apiserver.k8s.io/v1beta2", false)
+            )),
+          yaml(
+            """
+              apiVersion: apps/v1
+              kind: Deployment
+              metadata:
+                name: web
+              ---
+              apiVersion: apps/v1
+              kind: Deployment
+              metadata:
+                name: worker
+              ---
+              apiVersion: batch/v1beta1
+              kind: CronJob
+              metadata:
+                name: cleanup
+              """
+          ),
+          yaml(
+            """
+              apiVersion: flowcontrol.apiserver.k8s.io/v1beta1
+              kind: FlowSchema
+              metadata:
+                name: schema
+              ---
+              apiVersion: extensions/v1beta1
+              kind: Ingress
+              metadata:
+                name: ingress
+              """
+          )
+        );
+    }
+
+    @Test
+    void kindSpecificRemovals() {
+        rewriteRun(
+          spec -> spec.recipe(new FindApiVersions("1.32", null))
+            .dataTable(ApiVersions.Row.class, rows -> assertThat(rows).containsExactly(
+              new ApiVersions.Row("extensions/v1beta1", "NetworkPolicy", 1, "1.16", "networking.k8s.io/v1", true),
+              new ApiVersions.Row("extensions/v1beta1", "Widget", 1, null, null, false)
+            )),
+          yaml(
+            """
+              apiVersion: extensions/v1beta1
+              kind: NetworkPolicy
+              ---
+              apiVersion: extensions/v1beta1
+              kind: Widget
+              """
+          )
+        );
+    }
+
+    @Test
+    void kubernetesVersionIsValidated() {
+        assertThat(new FindApiVersions("2.0", null).validate().isValid()).isFalse();
+        assertThat(new FindApiVersions("v1.32", null).validate().isValid()).isTrue();
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.kubernetes.search;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.kubernetes.KubernetesRecipeTest;
+import org.openrewrite.kubernetes.table.ContainerImages;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.yaml.Assertions.yaml;
+
+class FindContainerImagesTest extends KubernetesRecipeTest {
+
+    @DocumentExample
+    @Test
+    void inventoryContainerAndInitContainerImages() {
+        rewriteRun(
+          spec -> spec.recipe(new FindContainerImages(null))
+            .dataTable(ContainerImages.Row.class, rows -> assertThat(rows).containsExactly(
+              new ContainerImages.Row("deployment.yaml", "Deployment", "apps", "web", "containers", "app",
+                "registry:5000/team", "app", "v1.2.3", null),
+              new ContainerImages.Row("deployment.yaml", "Deployment", "apps", "web", "initContainers", "migrate",
+                null, "flyway", null, "sha256:1234"),
+              new ContainerImages.Row("deployment.yaml", "Pod", null, "debug", "containers", null,
+                null, "busybox", "latest", null)
+            )),
+          yaml(
+            """
+              apiVersion: apps/v1
+              kind: Deployment
+              metadata:
+                name: web
+                namespace: apps
+              spec:
+                template:
+                  spec:
+                    containers:
+                    - name: app
+                      image: registry:5000/team/app:v1.2.3
+                      env:
+                      - name: image
+                        value: not-an-image
+                    initContainers:
+                    - name: migrate
+                      image: flyway@sha256:1234
+              ---
+              apiVersion: v1
+              kind: Pod
+              metadata:
+                name: debug
+              spec:
+                containers:
+                - image: busybox:latest
+              """,
+            spec -> spec.path("deployment.yaml")
+          )
+        );
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.kubernetes.search;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.kubernetes.KubernetesRecipeTest;
+import org.openrewrite.test.RecipeSpec;
+
+import java.util.List;
+
+import static org.openrewrite.yaml.Assertions.yaml;
+
+class FindMissingConfigurationsTest extends KubernetesRecipeTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        super.defaults(spec);
+        spec.recipe(new FindMissingConfigurations(
+          null,
+          List.of(
+            new FindMissingConfigurations.Rule("Pod", "$.spec.containers[*].livenessProbe", null),
+            new FindMissingConfigurations.Rule(null, "..spec.containers[*].resources.limits.cpu", "missing cpu limits")
+          ),
+          null
+        ));
+    }
+
+    @DocumentExample
+    @Test
+    void markOnlyMissingConfiguration() {
+        rewriteRun(
+          //language=yaml
+          yaml(
+            """
+              apiVersion: v1
+              kind: Pod
+              spec:
+                containers:
+                - image: nginx:latest
+                  resources:
+                    limits:
+                      cpu: "1"
+              """,
+            """
+              ~~(missing: $.spec.containers[*].livenessProbe)~~>apiVersion: v1
+              kind: Pod
+              spec:
+                containers:
+                - image: nginx:latest
+                  resources:
+                    limits:
+                      cpu: "1"
+              """
+          )
+        );
+    }
+
+    @Test
+    void rulesOnlyApplyToTheirResourceKind() {
+        rewriteRun(
+          //language=yaml
+          yaml(
+            """
+              apiVersion: apps/v1
+              kind: Deployment
+              spec:
+                template:
+                  spec:
+                    containers:
+                    - image: nginx:latest
+              """,
+            """
+              ~~(missing cpu limits)~~>apiVersion: apps/v1
+              kind: Deployment
+              spec:
+                template:
+                  spec:
+                    containers:
+                    - image: nginx:latest
+              """
+          )
+        );
+    }
+
+    @Test
+    void markEachMissingConfiguration() {
+        rewriteRun(
+          //language=yaml
+          yaml(
+            """
+              apiVersion: v1
+              kind: Pod
+              spec:
+                containers:
+                - image: nginx:latest
+              """,
+            """
+              ~~(missing: $.spec.containers[*].livenessProbe, missing cpu limits)~~>apiVersion: v1
+              kind: Pod
+              spec:
+                containers:
+                - image: nginx:latest
+              """
+          )
+        );
+    }
+
+    @Test
+    void noChangeIfAllPresent() {
+        rewriteRun(
+          //language=yaml
+          yaml(
+            """
+              apiVersion: v1
+              kind: Pod
+              spec:
+                containers:
+                - image: nginx:latest
+                  livenessProbe:
+                    httpGet:
+                      path: /healthz
+                  resources:
+                    limits:
+                      cpu: "1"
+              """
+          )
+        );
+    }
+
+    @Test
+    void predefinedChecks() {
+        rewriteRun(
+          spec -> spec.recipe(new FindMissingConfigurations(
+            List.of(FindMissingConfigurations.Check.POD_LIVENESS_PROBE, FindMissingConfigurations.Check.MEMORY_LIMITS),
+            null,
+            null
+          )),
+          //language=yaml
+          yaml(
+            """
+              apiVersion: v1
+              kind: Pod
+              spec:
+                containers:
+                - image: nginx:latest
+                  livenessProbe:
+                    httpGet:
+                      path: /healthz
+              """,
+            """
+              ~~(missing: ..spec.containers[:1].resources.limits.memory)~~>apiVersion: v1
+              kind: Pod
+              spec:
+                containers:
+                - image: nginx:latest
+                  livenessProbe:
+                    httpGet:
+                      path: /healthz
+              """
+          )
+        );
+    }
+}
@@ -165,4 +165,37 @@ class FindMissingOrInvalidLabelTest extends KubernetesRecipeTest {
           )
         );
     }
+
+    @Test
+    void onlyTheNamedLabelIsValidated() {
+        rewriteRun(
+          spec -> spec.recipe(new FindMissingOrInvalidLabel(
+            "mylabel",
+            "has(.*)",
+            null
+          )),
+          yaml(
+            """
+              apiVersion: v1
+              kind: Pod
+              metadata:
+                name: mypod
+                labels:
+                  app: mypod
+                  mylabel: "novalue"
+                  tier: backend
+              """,
+            """
+              apiVersion: v1
+              kind: Pod
+              metadata:
+                name: mypod
+                labels:
+                  app: mypod
+                  ~~(invalid:has(.*))~~>mylabel: "novalue"
+                  tier: backend
+              """
+          )
+        );
+    }
 }
@@ -237,4 +237,60 @@ class FindServicesByTypeTest extends KubernetesRecipeTest {
           )
         );
     }
+
+    @Test
+    void onlyServicesAreConsidered() {
+        rewriteRun(
+          spec -> spec.recipe(new FindServicesByType("NodePort", null)),
+          yaml(
+            """
+              apiVersion: example.com/v1
+              kind: Gateway
+              metadata:
+                name: my-gateway
+              spec:
+                type: NodePort
+              """
+          )
+        );
+    }
+
+    @Test
+    void onlyServiceDocumentsOfAFileAreConsidered() {
+        rewriteRun(
+          spec -> spec.recipe(new FindServicesByType("NodePort", null)),
+          yaml(
+            """
+              apiVersion: example.com/v1
+              kind: Gateway
+              metadata:
+                name: my-gateway
+              spec:
+                type: NodePort
+              ---
+              apiVersion: v1
+              kind: Service
+              metadata:
+                name: my-service
+              spec:
+                type: NodePort
+              """,
+            """
+              apiVersion: example.com/v1
+              kind: Gateway
+              metadata:
+                name: my-gateway
+              spec:
+                type: NodePort
+              ---
+              apiVersion: v1
+              kind: Service
+              metadata:
+                name: my-service
+              ~~(type:NodePort)~~>spec:
+                type: NodePort
+              """
+          )
+        );
+    }
 }
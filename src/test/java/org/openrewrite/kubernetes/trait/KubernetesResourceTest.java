@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.kubernetes.trait;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.kubernetes.KubernetesParser;
+import org.openrewrite.kubernetes.tree.KubernetesModel;
+import org.openrewrite.yaml.tree.Yaml;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KubernetesResourceTest {
+
+    @Test
+    void reuseModelMarkerUnlessStale() {
+        Yaml.Document document = KubernetesParser.builder().build().parse("""
+          apiVersion: batch/v1beta1
+          kind: CronJob
+          """).map(Yaml.Documents.class::cast).findFirst().get().getDocuments().get(0);
+        KubernetesModel marker = document.getMarkers().findFirst(KubernetesModel.class).get();
+        assertThat(KubernetesResource.modelOf(document)).isSameAs(marker);
+
+        Yaml.Mapping root = (Yaml.Mapping) document.getBlock();
+        Yaml.Document edited = document.withBlock(root.withEntries(ListUtils.map(root.getEntries(), e ->
+          "apiVersion".equals(e.getKey().getValue()) ? e.withValue(((Yaml.Scalar) e.getValue()).withValue("batch/v1")) : e)));
+        assertThat(KubernetesResource.modelOf(edited))
+          .extracting(KubernetesModel::getApiVersion)
+          .isEqualTo("batch/v1");
+    }
+}